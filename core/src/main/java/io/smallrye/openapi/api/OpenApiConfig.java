@@ -76,6 +76,26 @@ public interface OpenApiConfig {
         PARENT_ONLY
     }
 
+    /**
+     * Treatment of structurally identical schemas in the final model.
+     */
+    enum SchemaCanonicalization {
+        /**
+         * Schemas are left as generated
+         */
+        NONE,
+        /**
+         * Identical schemas are replaced by a single shared instance, the serialized
+         * document is unchanged
+         */
+        SHARE,
+        /**
+         * As {@link #SHARE}, additionally inline schemas with properties, enumerations or
+         * compositions used more than once are moved to {@code #/components/schemas}
+         */
+        PROMOTE
+    }
+
     public static OpenApiConfig fromConfig(Config config) {
         return new OpenApiConfigImpl(config);
     }
@@ -300,6 +320,20 @@ public interface OpenApiConfig {
                 () -> AutoInheritance.NONE);
     }
 
+    default SchemaCanonicalization getSchemaCanonicalization() {
+        return getConfigValue(SmallRyeOASConfig.SCHEMA_CANONICALIZATION, String.class, SchemaCanonicalization::valueOf,
+                () -> SchemaCanonicalization.NONE);
+    }
+
+    /**
+     * Whether the properties of data objects are resolved concurrently. The configuration
+     * is then read by several threads at once, and implementations of this interface
+     * must be thread-safe.
+     */
+    default boolean parallelDataObjectScanEnable() {
+        return getConfigValue(SmallRyeOASConfig.SCAN_DATA_OBJECTS_PARALLEL, Boolean.class, () -> Boolean.FALSE);
+    }
+
     default Set<String> getScanCompositionExcludePackages() {
         return getConfigValue(SmallRyeOASConfig.SCAN_COMPOSITION_EXCLUDE_PACKAGES, String[].class, this::toSet,
                 () -> DEFAULT_COMPOSITION_EXCLUDE_PACKAGES);
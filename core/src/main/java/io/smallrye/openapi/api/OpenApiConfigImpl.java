@@ -1,9 +1,9 @@
 package io.smallrye.openapi.api;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -21,8 +21,17 @@ import org.eclipse.microprofile.config.spi.ConfigSource;
  */
 public class OpenApiConfigImpl implements OpenApiConfig {
 
+    /**
+     * Stands for a null value in the cache.
+     */
+    private static final Object NULL = new Object();
+
     private Config config;
-    private Map<String, Object> cache = new HashMap<>();
+    /**
+     * Values read so far, by property name. Concurrent since data objects may be scanned
+     * by several threads sharing the configuration.
+     */
+    private Map<String, Object> cache = new ConcurrentHashMap<>();
     private Optional<Boolean> allowNakedPathParameter = Optional.empty();
 
     /**
@@ -87,8 +96,10 @@ public class OpenApiConfigImpl implements OpenApiConfig {
     @SuppressWarnings("unchecked")
     @Override
     public <R, T> T getConfigValue(String propertyName, Class<R> type, Function<R, T> converter, Supplier<T> defaultValue) {
-        if (cache.containsKey(propertyName)) {
-            return (T) cache.get(propertyName);
+        Object cached = cache.get(propertyName);
+
+        if (cached != null) {
+            return cached != NULL ? (T) cached : null;
         }
 
         T value = getOptionalValue(propertyName, type)
@@ -106,7 +117,12 @@ public class OpenApiConfigImpl implements OpenApiConfig {
                 .map(converter)
                 .orElseGet(defaultValue);
 
-        cache.put(propertyName, value);
+        cached = cache.putIfAbsent(propertyName, value != null ? value : NULL);
+
+        if (cached != null) {
+            // Read concurrently, keep the value returned to the other threads
+            return cached != NULL ? (T) cached : null;
+        }
 
         return value;
     }
@@ -114,8 +130,10 @@ public class OpenApiConfigImpl implements OpenApiConfig {
     @SuppressWarnings("unchecked")
     @Override
     public <R, T> Map<String, T> getConfigValueMap(String propertyNamePrefix, Class<R> type, Function<R, T> converter) {
-        if (cache.containsKey(propertyNamePrefix)) {
-            return (Map<String, T>) cache.get(propertyNamePrefix);
+        Object cached = cache.get(propertyNamePrefix);
+
+        if (cached != null) {
+            return (Map<String, T>) cached;
         }
 
         Map<String, T> valueMap = getPropertyNames()
@@ -124,8 +142,8 @@ public class OpenApiConfigImpl implements OpenApiConfig {
                         name -> name.substring(propertyNamePrefix.length()),
                         name -> converter.apply(getValue(name, type))));
 
-        cache.put(propertyNamePrefix, valueMap);
+        cached = cache.putIfAbsent(propertyNamePrefix, valueMap);
 
-        return valueMap;
+        return cached != null ? (Map<String, T>) cached : valueMap;
     }
 }
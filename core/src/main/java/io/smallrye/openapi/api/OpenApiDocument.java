@@ -1,17 +1,21 @@
 package io.smallrye.openapi.api;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.microprofile.openapi.OASFilter;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 
+import io.smallrye.openapi.api.OpenApiConfig.SchemaCanonicalization;
 import io.smallrye.openapi.api.models.OpenAPIImpl;
 import io.smallrye.openapi.api.models.PathsImpl;
 import io.smallrye.openapi.api.models.info.InfoImpl;
 import io.smallrye.openapi.api.util.ConfigUtil;
 import io.smallrye.openapi.api.util.FilterUtil;
 import io.smallrye.openapi.api.util.MergeUtil;
+import io.smallrye.openapi.api.util.SchemaCanonicalizer;
 import io.smallrye.openapi.api.util.UnusedSchemaFilter;
 
 /**
@@ -167,6 +171,14 @@ public class OpenApiDocument {
         // Phase 7: Use Config values to add Servers (global, pathItem, operation)
         ConfigUtil.applyConfig(config, merged, defaultRequiredProperties);
 
+        // Phase 8: Share identical schemas, after all filters have been applied
+        SchemaCanonicalization canonicalization = config.getSchemaCanonicalization();
+
+        if (canonicalization != SchemaCanonicalization.NONE) {
+            merged = FilterUtil.applyFilter(
+                    new SchemaCanonicalizer(canonicalization == SchemaCanonicalization.PROMOTE), merged);
+        }
+
         model = merged;
         clear();
     }
@@ -181,13 +193,12 @@ public class OpenApiDocument {
         if (model == null) {
             return model;
         }
+        List<OASFilter> allFilters = new ArrayList<>(filters.size() + 1);
         if (config.removeUnusedSchemas()) {
-            model = FilterUtil.applyFilter(new UnusedSchemaFilter(), model);
+            allFilters.add(new UnusedSchemaFilter());
         }
-        for (OASFilter filter : filters.values()) {
-            model = FilterUtil.applyFilter(filter, model);
-        }
-        return model;
+        allFilters.addAll(filters.values());
+        return FilterUtil.applyFilters(allFilters, model);
     }
 
     private synchronized void set(Runnable action) {
@@ -0,0 +1,83 @@
+package io.smallrye.openapi.api;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+
+/**
+ * Holds data derived from a Jandex index that does not depend on the configuration
+ * of a build: the annotations declared on each class, method or field and the values
+ * of the constants of each enum, the latter per class loader and ordering. A session may be given
+ * to any number of {@link SmallRyeOpenAPI.Builder builders} scanning the same index,
+ * including builders used concurrently, so that the data is derived only once.
+ *
+ * Data that depends on the configured class filters, such as the inheritance chains
+ * of the filtered index, is still derived by each build.
+ *
+ * @see SmallRyeOpenAPI.Builder#withScanSession(ScanSession)
+ */
+public final class ScanSession {
+
+    private final IndexView index;
+    private final Map<AnnotationTarget, List<AnnotationInstance>> declaredAnnotations = new ConcurrentHashMap<>();
+    private final Map<ClassLoader, Map<List<Object>, List<Object>>> enumConstants = Collections
+            .synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Create a session for the given index.
+     *
+     * @param index the Jandex index shared by the builds using this session
+     */
+    public ScanSession(IndexView index) {
+        this.index = Objects.requireNonNull(index);
+    }
+
+    /**
+     * @return the index shared by the builds using this session
+     */
+    public IndexView getIndex() {
+        return index;
+    }
+
+    /**
+     * Retrieve the annotations declared directly on a target, computing them
+     * only the first time the target is requested.
+     *
+     * @param target the annotated class, field, method, method parameter or record component
+     * @param loader function to compute the annotations declared on the target
+     * @return unmodifiable list of the target's annotations
+     */
+    public List<AnnotationInstance> getDeclaredAnnotations(AnnotationTarget target,
+            Function<AnnotationTarget, List<AnnotationInstance>> loader) {
+        return declaredAnnotations.computeIfAbsent(target, t -> Collections.unmodifiableList(loader.apply(t)));
+    }
+
+    /**
+     * Retrieve the values of the constants of an enum, computing them only the first
+     * time the enum is requested with the class loader and ordering. The values may be
+     * obtained from the enum's {@code @JsonValue} method, which is invoked with the
+     * loaded enum class.
+     *
+     * @param loader the class loader of the build
+     * @param enumName name of the enum
+     * @param sorted whether the build lists the constants sorted by name rather than in declaration order
+     * @param factory function to compute the constants of the enum
+     * @return unmodifiable list of the enum's values
+     */
+    public List<Object> getEnumConstants(ClassLoader loader, DotName enumName, boolean sorted,
+            Function<DotName, List<Object>> factory) {
+        return enumConstants.computeIfAbsent(loader, l -> new ConcurrentHashMap<>())
+                .computeIfAbsent(Arrays.asList(enumName, sorted),
+                        key -> Collections.unmodifiableList(factory.apply(enumName)));
+    }
+}
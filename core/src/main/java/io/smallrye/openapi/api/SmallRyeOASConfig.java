@@ -79,6 +79,8 @@ public final class SmallRyeOASConfig {
 
     public static final String MAXIMUM_STATIC_FILE_SIZE = SMALLRYE_PREFIX + "maximumStaticFileSize";
     public static final String AUTO_INHERITANCE = SMALLRYE_PREFIX + "auto-inheritance";
+    public static final String SCHEMA_CANONICALIZATION = SMALLRYE_PREFIX + "schema-canonicalization";
+    public static final String SCAN_DATA_OBJECTS_PARALLEL = SMALLRYE_PREFIX + "scan.data-objects.parallel";
 
     public static final class Defaults {
         public static final String VERSION = "3.0.3";
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.Writer;
 import java.net.URL;
 import java.util.Collection;
 import java.util.Collections;
@@ -12,7 +13,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.ServiceLoader;
-import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -34,6 +34,8 @@ import io.smallrye.openapi.api.models.OpenAPIImpl;
 import io.smallrye.openapi.api.util.MergeUtil;
 import io.smallrye.openapi.runtime.OpenApiProcessor;
 import io.smallrye.openapi.runtime.OpenApiRuntimeException;
+import io.smallrye.openapi.runtime.events.OpenApiScanPhaseEvent;
+import io.smallrye.openapi.runtime.events.OpenApiSerializeEvent;
 import io.smallrye.openapi.runtime.io.Format;
 import io.smallrye.openapi.runtime.io.IOContext;
 import io.smallrye.openapi.runtime.io.JsonIO;
@@ -50,13 +52,13 @@ public class SmallRyeOpenAPI {
 
     private final OpenAPI model;
     private final Object jsonModel;
-    private final BiFunction<? super Object, Format, String> toString;
+    private final JsonIO<Object, ?, ?, ?, ?> jsonIO;
 
     @SuppressWarnings("unchecked")
-    private SmallRyeOpenAPI(OpenAPI model, Object jsonModel, BiFunction<?, Format, String> toString) {
+    private SmallRyeOpenAPI(OpenAPI model, Object jsonModel, JsonIO<?, ?, ?, ?, ?> jsonIO) {
         this.model = model;
         this.jsonModel = jsonModel;
-        this.toString = (BiFunction<? super Object, Format, String>) toString;
+        this.jsonIO = (JsonIO<Object, ?, ?, ?, ?>) jsonIO;
     }
 
     /**
@@ -70,14 +72,51 @@ public class SmallRyeOpenAPI {
      * Serializes the {@link #model} as a JSON String
      */
     public String toJSON() {
-        return toString.apply(jsonModel, Format.JSON);
+        return toString(Format.JSON);
+    }
+
+    /**
+     * Serializes the {@link #model} as JSON to the given writer. The writer
+     * is flushed but not closed.
+     *
+     * @param writer destination of the JSON output
+     * @throws IOException when writing to the destination fails
+     */
+    public void toJSON(Writer writer) throws IOException {
+        write(Format.JSON, writer);
     }
 
     /**
      * Serializes the {@link #model} as a YAML String
      */
     public String toYAML() {
-        return toString.apply(jsonModel, Format.YAML);
+        return toString(Format.YAML);
+    }
+
+    /**
+     * Serializes the {@link #model} as YAML to the given writer. The writer
+     * is flushed but not closed.
+     *
+     * @param writer destination of the YAML output
+     * @throws IOException when writing to the destination fails
+     */
+    public void toYAML(Writer writer) throws IOException {
+        write(Format.YAML, writer);
+    }
+
+    private String toString(Format format) {
+        OpenApiSerializeEvent event = new OpenApiSerializeEvent();
+        event.begin();
+        String result = jsonIO.toString(jsonModel, format);
+        event.complete(format, result != null ? result.length() : 0);
+        return result;
+    }
+
+    private void write(Format format, Writer writer) throws IOException {
+        OpenApiSerializeEvent event = new OpenApiSerializeEvent();
+        event.begin();
+        jsonIO.write(jsonModel, format, writer);
+        event.complete(format, -1);
     }
 
     /**
@@ -105,6 +144,7 @@ public class SmallRyeOpenAPI {
         private boolean defaultRequiredProperties = true;
 
         private IndexView index = EMPTY_INDEX;
+        private ScanSession scanSession;
         private boolean enableAnnotationScan = true;
         private boolean enableUnannotatedPathParameters = false;
         private ClassLoader scannerClassLoader;
@@ -269,6 +309,23 @@ public class SmallRyeOpenAPI {
             return this;
         }
 
+        /**
+         * Provide a session shared by the builds scanning the same index. The session's
+         * index is used for annotation scanning and data derived from the index (independent
+         * of the configuration) is re-used from previous builds in the session.
+         * <p>
+         * The session is ignored when a different index is later provided via
+         * {@link #withIndex(IndexView)}.
+         *
+         * @param scanSession session holding data derived from the index, null not allowed
+         * @return this builder
+         */
+        public Builder withScanSession(ScanSession scanSession) {
+            this.scanSession = Objects.requireNonNull(scanSession);
+            this.index = scanSession.getIndex();
+            return this;
+        }
+
         /**
          * Provide function that when given the collection of all known Jakarta REST Application ClassInfo
          * instances, resolves the context root (path prefix) to be applied to all paths in the OpenAPI
@@ -477,10 +534,16 @@ public class SmallRyeOpenAPI {
             OASFilter standardFilter = null;
 
             if (enableModelReader) {
+                OpenApiScanPhaseEvent event = new OpenApiScanPhaseEvent();
+                event.begin();
                 readerModel = OpenApiProcessor.modelFromReader(buildConfig, appClassLoader, filteredIndex);
+                event.complete("reader", null, readerModel);
                 debugModel("reader", readerModel);
             }
 
+            OpenApiScanPhaseEvent staticFilesEvent = new OpenApiScanPhaseEvent();
+            staticFilesEvent.begin();
+
             if (enableStandardStaticFiles) {
                 Function<String, URL> loadFn = Optional.ofNullable(resourceLocator)
                         .orElse(appClassLoader::getResource);
@@ -515,17 +578,23 @@ public class SmallRyeOpenAPI {
                 }
             }
 
+            staticFilesEvent.complete("static-files", null, staticModel);
+
             if (enableAnnotationScan && !buildConfig.scanDisable()) {
                 buildConfig.setAllowNakedPathParameter(enableUnannotatedPathParameters);
                 AnnotationScannerExtension ext = newExtension(modelIO);
+                ScanSession session = scanSession != null && scanSession.getIndex() == index ? scanSession : null;
                 AnnotationScannerContext scannerContext = new AnnotationScannerContext(filteredIndex, appClassLoader,
-                        Collections.singletonList(ext), false, buildConfig, modelIO, new OpenAPIImpl());
+                        Collections.singletonList(ext), false, buildConfig, modelIO, new OpenAPIImpl(), session);
                 io.scannerContext(scannerContext);
                 Supplier<Iterable<AnnotationScanner>> supplier = Optional.ofNullable(scannerClassLoader)
                         .map(AnnotationScannerFactory::new)
                         .orElseGet(() -> new AnnotationScannerFactory(appClassLoader));
                 OpenApiAnnotationScanner scanner = new OpenApiAnnotationScanner(scannerContext, supplier);
+                OpenApiScanPhaseEvent event = new OpenApiScanPhaseEvent();
+                event.begin();
                 annotationModel = scanner.scan(scannerFilter);
+                event.complete("annotations", null, annotationModel);
                 debugModel("annotation", annotationModel);
             }
 
@@ -551,11 +620,18 @@ public class SmallRyeOpenAPI {
                 doc.filter(standardFilter);
             }
 
+            OpenApiScanPhaseEvent initializeEvent = new OpenApiScanPhaseEvent();
+            initializeEvent.begin();
             doc.initialize();
-
             OpenAPI model = doc.get();
-            BiFunction<V, Format, String> toString = io.jsonIO()::toString;
-            return new SmallRyeOpenAPI(model, modelIO.write(model).orElse(null), toString);
+            initializeEvent.complete("initialize", null, model);
+
+            OpenApiScanPhaseEvent writeEvent = new OpenApiScanPhaseEvent();
+            writeEvent.begin();
+            V jsonModel = modelIO.write(model).orElse(null);
+            writeEvent.complete("write", null, model);
+
+            return new SmallRyeOpenAPI(model, jsonModel, io.jsonIO());
         }
 
         private <V, A extends V, O extends V, AB, OB> AnnotationScannerExtension newExtension(
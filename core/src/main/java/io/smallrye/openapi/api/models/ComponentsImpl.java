@@ -14,6 +14,7 @@ import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
 import org.eclipse.microprofile.openapi.models.responses.APIResponse;
 import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
 
+import io.smallrye.openapi.runtime.io.ReferenceType;
 import io.smallrye.openapi.runtime.util.ModelUtil;
 
 /**
@@ -338,4 +339,51 @@ public class ComponentsImpl extends ExtensibleImpl<Components> implements Compon
         ModelUtil.remove(this.callbacks, key);
     }
 
-}
\ No newline at end of file
+    /**
+     * Look up a component by type and name. The component maps are read directly,
+     * so the result always reflects the components added or removed so far.
+     *
+     * @param type the type of the component
+     * @param name the name of the component
+     * @return the component, or null if no component with the name exists
+     */
+    public Object getComponent(ReferenceType type, String name) {
+        Map<String, ?> components;
+
+        switch (type) {
+            case CALLBACK:
+                components = callbacks;
+                break;
+            case EXAMPLE:
+                components = examples;
+                break;
+            case HEADER:
+                components = headers;
+                break;
+            case LINK:
+                components = links;
+                break;
+            case PARAMETER:
+                components = parameters;
+                break;
+            case REQUEST_BODY:
+                components = requestBodies;
+                break;
+            case RESPONSE:
+                components = responses;
+                break;
+            case SCHEMA:
+                components = schemas;
+                break;
+            case SECURITY_SCHEME:
+                components = securitySchemes;
+                break;
+            default:
+                components = null;
+                break;
+        }
+
+        return components != null ? components.get(name) : null;
+    }
+
+}
@@ -17,6 +17,17 @@ public abstract class ExtensibleImpl<T extends Extensible<T>> implements Extensi
 
     private Map<String, Object> extensions;
 
+    /**
+     * Read the extensions of a model without creating an unmodifiable view, for use
+     * when traversing a model. The result must not be modified.
+     *
+     * @param model the extensible model
+     * @return the extensions of the model, or null if it has none
+     */
+    public static Map<String, Object> extensions(Extensible<?> model) {
+        return model instanceof ExtensibleImpl ? ((ExtensibleImpl<?>) model).extensions : model.getExtensions();
+    }
+
     /**
      * @see org.eclipse.microprofile.openapi.models.Extensible#getExtensions()
      */
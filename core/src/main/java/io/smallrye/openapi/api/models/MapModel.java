@@ -14,36 +14,38 @@ public interface MapModel<V> extends Map<String, V> {
     void setMap(Map<String, V> map);
 
     default <T> T invokeFunction(Function<Map<String, V>, T> function) {
-        Map<String, V> map = getMap();
-        if (map == null) {
-            map = new LinkedHashMap<>();
-            setMap(map);
-        }
-        return function.apply(map);
+        return function.apply(map());
     }
 
     default void invoke(Consumer<Map<String, V>> function) {
+        function.accept(map());
+    }
+
+    private Map<String, V> map() {
         Map<String, V> map = getMap();
         if (map == null) {
             map = new LinkedHashMap<>();
             setMap(map);
         }
-        function.accept(map);
+        return map;
     }
 
+    // Read operations do not allocate a function. Like the other operations they create the
+    // map, so the getters of a model that has been read return an empty map rather than null
+
     @Override
     default int size() {
-        return invokeFunction(Map::size);
+        return map().size();
     }
 
     @Override
     default boolean isEmpty() {
-        return invokeFunction(Map::isEmpty);
+        return map().isEmpty();
     }
 
     @Override
     default boolean containsValue(Object value) {
-        return invokeFunction(map -> map.containsValue(value));
+        return map().containsValue(value);
     }
 
     @Override
@@ -68,12 +70,12 @@ public interface MapModel<V> extends Map<String, V> {
 
     @Override
     default V get(Object key) {
-        return invokeFunction(map -> map.get(key));
+        return map().get(key);
     }
 
     @Override
     default boolean containsKey(Object key) {
-        return invokeFunction(map -> map.containsKey(key));
+        return map().containsKey(key);
     }
 
     @Override
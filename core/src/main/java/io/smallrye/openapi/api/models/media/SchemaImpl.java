@@ -6,6 +6,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
@@ -85,25 +86,78 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
         observer.setType(observable.getType());
     }
 
+    /*
+     * Read the collections of a schema without creating an unmodifiable view, for use
+     * when traversing a model. The results must not be modified.
+     */
+
+    public static Map<String, Schema> properties(Schema schema) {
+        return schema instanceof SchemaImpl ? ((SchemaImpl) schema).properties : schema.getProperties();
+    }
+
+    public static List<Schema> allOf(Schema schema) {
+        return schema instanceof SchemaImpl ? ((SchemaImpl) schema).allOf : schema.getAllOf();
+    }
+
+    public static List<Schema> anyOf(Schema schema) {
+        return schema instanceof SchemaImpl ? ((SchemaImpl) schema).anyOf : schema.getAnyOf();
+    }
+
+    public static List<Schema> oneOf(Schema schema) {
+        return schema instanceof SchemaImpl ? ((SchemaImpl) schema).oneOf : schema.getOneOf();
+    }
+
+    public static List<String> required(Schema schema) {
+        return schema instanceof SchemaImpl ? ((SchemaImpl) schema).required : schema.getRequired();
+    }
+
+    public static List<Object> enumeration(Schema schema) {
+        return schema instanceof SchemaImpl ? ((SchemaImpl) schema).enumeration : schema.getEnumeration();
+    }
+
     public static SchemaImpl copyOf(Schema other) {
-        SchemaImpl clone = (SchemaImpl) MergeUtil.mergeObjects(new SchemaImpl(), other);
+        return copyOf(new SchemaImpl(), other, SchemaImpl::copyOf);
+    }
+
+    /**
+     * Create a deep copy of a schema that also retains the name, the modification count
+     * and the type observers of the schema and of its nested schemas, for duplicating a
+     * completed model.
+     *
+     * @param other the schema to copy
+     * @return copy of the schema
+     */
+    public static SchemaImpl copyWithState(Schema other) {
+        if (!(other instanceof SchemaImpl)) {
+            return copyOf(new SchemaImpl(), other, SchemaImpl::copyWithState);
+        }
+
+        SchemaImpl source = (SchemaImpl) other;
+        SchemaImpl clone = copyOf(new SchemaImpl(source.name), source, SchemaImpl::copyWithState);
+        clone.modCount = source.modCount;
+        clone.typeObservers = copy(source.typeObservers, () -> new ArrayList<>(source.typeObservers));
+        return clone;
+    }
+
+    private static SchemaImpl copyOf(SchemaImpl target, Schema other, UnaryOperator<Schema> nestedCopy) {
+        SchemaImpl clone = (SchemaImpl) MergeUtil.mergeObjects(target, other);
         clone.required = copy(clone.required, () -> new ArrayList<>(clone.required));
         clone.enumeration = copy(clone.enumeration, () -> new ArrayList<>(clone.enumeration));
-        clone.items = copy(clone.items, () -> copyOf(clone.items));
+        clone.items = copy(clone.items, () -> nestedCopy.apply(clone.items));
 
         clone.allOf = copy(clone.allOf, () -> clone.allOf
                 .stream()
-                .map(SchemaImpl::copyOf)
+                .map(nestedCopy)
                 .collect(Collectors.toList()));
 
         clone.properties = copy(clone.properties, () -> {
             Map<String, Schema> copiedProperties = new LinkedHashMap<>(clone.properties.size());
-            clone.properties.forEach((k, v) -> copiedProperties.put(k, copyOf(v)));
+            clone.properties.forEach((k, v) -> copiedProperties.put(k, nestedCopy.apply(v)));
             return copiedProperties;
         });
 
         clone.additionalPropertiesSchema = copy(clone.additionalPropertiesSchema,
-                () -> copyOf(clone.additionalPropertiesSchema));
+                () -> nestedCopy.apply(clone.additionalPropertiesSchema));
 
         clone.xml = copy(clone.xml, () -> MergeUtil.mergeObjects(new XMLImpl(), clone.xml));
         clone.externalDocs = copy(clone.externalDocs,
@@ -111,15 +165,15 @@ public class SchemaImpl extends ExtensibleImpl<Schema> implements Schema, ModelI
 
         clone.oneOf = copy(clone.oneOf, () -> clone.oneOf
                 .stream()
-                .map(SchemaImpl::copyOf)
+                .map(nestedCopy)
                 .collect(Collectors.toList()));
 
         clone.anyOf = copy(clone.anyOf, () -> clone.anyOf
                 .stream()
-                .map(SchemaImpl::copyOf)
+                .map(nestedCopy)
                 .collect(Collectors.toList()));
 
-        clone.not = copy(clone.not, () -> copyOf(clone.not));
+        clone.not = copy(clone.not, () -> nestedCopy.apply(clone.not));
 
         return clone;
     }
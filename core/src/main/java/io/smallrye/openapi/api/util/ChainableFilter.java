@@ -0,0 +1,22 @@
+package io.smallrye.openapi.api.util;
+
+import java.util.Collection;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * Marker for filters that may be combined with the neighbouring chainable filters into
+ * a single traversal of the model by {@link FilterUtil#applyFilters(Collection, OpenAPI)}.
+ * Other filters are always applied on their own.
+ *
+ * <p>
+ * Since children are filtered before their parent, a chained filter does not see the
+ * children that the filters chained before it add or replace in a parent's hook, e.g.
+ * a parameter added in {@link OASFilter#filterOperation filterOperation} or a property
+ * added in {@link OASFilter#filterSchema filterSchema}. A filter may be marked chainable
+ * when it does not depend on such changes by the filters before it, nor on state
+ * gathered from the whole model. See {@link FilterChain} for the other differences.
+ */
+public interface ChainableFilter extends OASFilter {
+}
@@ -0,0 +1,23 @@
+package io.smallrye.openapi.api.util;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+
+/**
+ * Marker for stateless, thread-safe filters. The path items and the entries of the
+ * component maps are filtered concurrently when such a filter is applied by
+ * {@link FilterUtil}, also when it is chained with other filters that are both
+ * {@link ChainableFilter chainable} and concurrent.
+ *
+ * <p>
+ * The filter methods may be called concurrently for different path items and
+ * components. Path items and components reaching a common model are filtered one
+ * after the other on the same thread, in the order of the model, so a shared model
+ * is never filtered concurrently and is filtered as by a sequential traversal, also
+ * for each of its occurrences. Removals of path items
+ * and components are applied once all of them have been filtered, in the order of
+ * the model, and {@link OASFilter#filterOpenAPI(OpenAPI)} is called last, on the
+ * calling thread.
+ */
+public interface ConcurrentFilter extends OASFilter {
+}
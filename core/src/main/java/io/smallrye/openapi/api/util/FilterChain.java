@@ -0,0 +1,144 @@
+package io.smallrye.openapi.api.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.callbacks.Callback;
+import org.eclipse.microprofile.openapi.models.examples.Example;
+import org.eclipse.microprofile.openapi.models.headers.Header;
+import org.eclipse.microprofile.openapi.models.links.Link;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.eclipse.microprofile.openapi.models.servers.Server;
+import org.eclipse.microprofile.openapi.models.tags.Tag;
+
+/**
+ * Filter combining several filters so that they are applied in a single traversal
+ * of the model. For each node, the filters are called in order, each receiving the
+ * result of the previous one. Once a filter removes the node (returns null), the
+ * remaining filters are not called for it. {@link #filterOpenAPI(OpenAPI)} is called
+ * on each filter, in order, after the traversal.
+ *
+ * <p>
+ * Unlike filters applied one after the other, the filters of a chain do not see what
+ * the preceding filters of the chain add to the model:
+ * <ul>
+ * <li>nodes added by a filter's {@link #filterOpenAPI(OpenAPI)} are not traversed by
+ * any filter of the chain, since it is called after the traversal
+ * <li>children are filtered before their parent, so the children that a filter adds
+ * or replaces in a parent's hook, or that come with a replacement of the parent, are
+ * not traversed by the following filters
+ * </ul>
+ *
+ * @see ChainableFilter
+ */
+public class FilterChain implements OASFilter {
+
+    private final List<OASFilter> filters;
+
+    /**
+     * @param filters the filters to apply, in order
+     */
+    public FilterChain(Collection<? extends OASFilter> filters) {
+        this.filters = Collections.unmodifiableList(new ArrayList<>(filters));
+    }
+
+    /**
+     * @return the chained filters, in order
+     */
+    public List<OASFilter> getFilters() {
+        return filters;
+    }
+
+    private <T> T apply(T model, BiFunction<OASFilter, T, T> hook) {
+        T result = model;
+
+        for (int i = 0, m = filters.size(); i < m && result != null; i++) {
+            result = hook.apply(filters.get(i), result);
+        }
+
+        return result;
+    }
+
+    @Override
+    public PathItem filterPathItem(PathItem pathItem) {
+        return apply(pathItem, OASFilter::filterPathItem);
+    }
+
+    @Override
+    public Operation filterOperation(Operation operation) {
+        return apply(operation, OASFilter::filterOperation);
+    }
+
+    @Override
+    public Parameter filterParameter(Parameter parameter) {
+        return apply(parameter, OASFilter::filterParameter);
+    }
+
+    @Override
+    public Header filterHeader(Header header) {
+        return apply(header, OASFilter::filterHeader);
+    }
+
+    @Override
+    public RequestBody filterRequestBody(RequestBody requestBody) {
+        return apply(requestBody, OASFilter::filterRequestBody);
+    }
+
+    @Override
+    public APIResponse filterAPIResponse(APIResponse apiResponse) {
+        return apply(apiResponse, OASFilter::filterAPIResponse);
+    }
+
+    @Override
+    public Schema filterSchema(Schema schema) {
+        return apply(schema, OASFilter::filterSchema);
+    }
+
+    @Override
+    public SecurityScheme filterSecurityScheme(SecurityScheme securityScheme) {
+        return apply(securityScheme, OASFilter::filterSecurityScheme);
+    }
+
+    @Override
+    public Server filterServer(Server server) {
+        return apply(server, OASFilter::filterServer);
+    }
+
+    @Override
+    public Tag filterTag(Tag tag) {
+        return apply(tag, OASFilter::filterTag);
+    }
+
+    @Override
+    public Link filterLink(Link link) {
+        return apply(link, OASFilter::filterLink);
+    }
+
+    @Override
+    public Callback filterCallback(Callback callback) {
+        return apply(callback, OASFilter::filterCallback);
+    }
+
+    @Override
+    public Example filterExample(Example example) {
+        return apply(example, OASFilter::filterExample);
+    }
+
+    @Override
+    public void filterOpenAPI(OpenAPI openAPI) {
+        for (OASFilter filter : filters) {
+            filter.filterOpenAPI(openAPI);
+        }
+    }
+}
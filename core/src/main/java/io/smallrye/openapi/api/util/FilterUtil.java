@@ -3,12 +3,14 @@ package io.smallrye.openapi.api.util;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.IdentityHashMap;
-import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
@@ -17,6 +19,7 @@ import org.eclipse.microprofile.openapi.models.Components;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.Operation;
 import org.eclipse.microprofile.openapi.models.PathItem;
+import org.eclipse.microprofile.openapi.models.Paths;
 import org.eclipse.microprofile.openapi.models.callbacks.Callback;
 import org.eclipse.microprofile.openapi.models.headers.Header;
 import org.eclipse.microprofile.openapi.models.links.Link;
@@ -29,15 +32,36 @@ import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
 import org.eclipse.microprofile.openapi.models.responses.APIResponse;
 import org.eclipse.microprofile.openapi.models.responses.APIResponses;
 
+import io.smallrye.openapi.api.models.MapModel;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.runtime.events.OpenApiFilterEvent;
+
 /**
  * @author eric.wittmann@gmail.com
  *
  */
 public class FilterUtil {
 
+    /**
+     * Filter leaving the model unchanged, used to traverse the model without filtering it.
+     */
+    private static final OASFilter NO_OP_FILTER = new OASFilter() {
+    };
+
     private final Map<Object, Object> stack = new IdentityHashMap<>();
 
+    /**
+     * Notified of each model whose content is about to be traversed, the content is
+     * skipped when it returns false. Null when all content is traversed.
+     */
+    private final Predicate<Object> visitor;
+
     private FilterUtil() {
+        this(null);
+    }
+
+    private FilterUtil(Predicate<Object> visitor) {
+        this.visitor = visitor;
     }
 
     /**
@@ -50,7 +74,225 @@ public class FilterUtil {
      * @return Filtered OpenAPI model
      */
     public static final OpenAPI applyFilter(OASFilter filter, OpenAPI model) {
-        return new FilterUtil().filter(filter, model);
+        OpenApiFilterEvent event = new OpenApiFilterEvent();
+        event.begin();
+        OpenAPI result = isConcurrent(filter) ? filterConcurrently(filter, model) : new FilterUtil().filter(filter, model);
+        event.complete(filter);
+        return result;
+    }
+
+    /**
+     * Apply the given filters, in order, to the given model. Each filter traverses the
+     * model as left by the filters before it, except for consecutive
+     * {@link ChainableFilter chainable filters}, which are combined in a
+     * {@link FilterChain} and applied in a single traversal of the model. A chainable
+     * filter overriding {@link OASFilter#filterOpenAPI(OpenAPI)} ends its chain, so the
+     * following filters traverse the model as modified by it, e.g. including the paths
+     * it adds.
+     *
+     * @param filters
+     *        OASFilters to apply
+     * @param model
+     *        OpenAPI model
+     * @return Filtered OpenAPI model
+     */
+    public static final OpenAPI applyFilters(Collection<? extends OASFilter> filters, OpenAPI model) {
+        List<OASFilter> chain = new ArrayList<>();
+
+        for (OASFilter filter : filters) {
+            if (!(filter instanceof ChainableFilter)) {
+                model = applyChain(chain, model);
+                model = applyFilter(filter, model);
+                chain.clear();
+            } else {
+                chain.add(filter);
+
+                if (overridesFilterOpenAPI(filter)) {
+                    model = applyChain(chain, model);
+                    chain.clear();
+                }
+            }
+        }
+
+        return applyChain(chain, model);
+    }
+
+    private static boolean overridesFilterOpenAPI(OASFilter filter) {
+        try {
+            return filter.getClass().getMethod("filterOpenAPI", OpenAPI.class).getDeclaringClass() != OASFilter.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    private static OpenAPI applyChain(List<OASFilter> chain, OpenAPI model) {
+        switch (chain.size()) {
+            case 0:
+                return model;
+            case 1:
+                return applyFilter(chain.get(0), model);
+            default:
+                return applyFilter(new FilterChain(chain), model);
+        }
+    }
+
+    private static boolean isConcurrent(OASFilter filter) {
+        if (filter instanceof FilterChain) {
+            List<OASFilter> chained = ((FilterChain) filter).getFilters();
+            return !chained.isEmpty() && chained.stream().allMatch(ConcurrentFilter.class::isInstance);
+        }
+        return filter instanceof ConcurrentFilter;
+    }
+
+    /**
+     * Filter the path items and the entries of the component maps concurrently, each of
+     * them in a task of its own. Tasks reaching a common model are run one after the
+     * other on the same thread, in the order of the model, so that a shared model is
+     * filtered exactly as by a sequential traversal. Entries removed by the filter are
+     * removed from the model once all tasks are complete, in the order of the model, so
+     * that the result does not depend on the order in which the tasks complete.
+     */
+    private static OpenAPI filterConcurrently(OASFilter filter, OpenAPI model) {
+        List<Task<?>> tasks = createTasks(filter, model);
+
+        groupTasks(model, tasks).parallelStream().forEach(group -> group.forEach(task -> task.run(new FilterUtil())));
+        tasks.forEach(Task::complete);
+
+        FilterUtil util = new FilterUtil();
+        util.filter(filter, model.getServers(), null, filter::filterServer, model::removeServer);
+        util.filter(filter, model.getTags(), null, filter::filterTag, model::removeTag);
+
+        filter.filterOpenAPI(model);
+
+        return model;
+    }
+
+    private static List<Task<?>> createTasks(OASFilter filter, OpenAPI model) {
+        List<Task<?>> tasks = new ArrayList<>();
+        Components components = model.getComponents();
+
+        if (components != null) {
+            addTasks(tasks, components.getCallbacks(), (u, m) -> u.filterCallback(filter, m), filter::filterCallback,
+                    components::removeCallback);
+            addTasks(tasks, components.getHeaders(), (u, m) -> u.filterHeader(filter, m), filter::filterHeader,
+                    components::removeHeader);
+            addTasks(tasks, components.getLinks(), (u, m) -> u.filterLink(filter, m), filter::filterLink,
+                    components::removeLink);
+            addTasks(tasks, components.getParameters(), (u, m) -> u.filterParameter(filter, m), filter::filterParameter,
+                    components::removeParameter);
+            addTasks(tasks, components.getRequestBodies(), (u, m) -> u.filterRequestBody(filter, m),
+                    filter::filterRequestBody, components::removeRequestBody);
+            addTasks(tasks, components.getResponses(), (u, m) -> u.filterAPIResponse(filter, m), filter::filterAPIResponse,
+                    components::removeResponse);
+            addTasks(tasks, components.getSchemas(), (u, m) -> u.filterSchema(filter, m), filter::filterSchema,
+                    components::removeSchema);
+            addTasks(tasks, components.getSecuritySchemes(), null, filter::filterSecurityScheme,
+                    components::removeSecurityScheme);
+        }
+
+        if (model.getPaths() != null) {
+            addTasks(tasks, entries(model.getPaths(), Paths::getPathItems), (u, m) -> u.filterPathItem(filter, m),
+                    filter::filterPathItem, model.getPaths()::removePathItem);
+        }
+
+        return tasks;
+    }
+
+    /**
+     * Group the tasks whose entries reach a common model. The entries are traversed
+     * once without filtering them, recording the first task reaching each model, and
+     * the tasks reaching a model recorded for another task are joined in its group.
+     *
+     * @return the groups, each listing its tasks in the order of the model
+     */
+    private static List<List<Task<?>>> groupTasks(OpenAPI model, List<Task<?>> tasks) {
+        List<Task<?>> traversals = createTasks(NO_OP_FILTER, model);
+        Map<Object, Integer> owners = new IdentityHashMap<>();
+        int[] groups = new int[tasks.size()];
+
+        for (int i = 0; i < groups.length; i++) {
+            int task = i;
+            groups[task] = task;
+            traversals.get(task).run(new FilterUtil(m -> {
+                Integer owner = owners.putIfAbsent(m, task);
+
+                if (owner != null) {
+                    // Join the groups, always keeping the group of the earliest task
+                    int ownerGroup = findGroup(groups, owner);
+                    int taskGroup = findGroup(groups, task);
+                    groups[Math.max(ownerGroup, taskGroup)] = Math.min(ownerGroup, taskGroup);
+                }
+
+                return owner == null;
+            }));
+        }
+
+        Map<Integer, List<Task<?>>> grouped = new LinkedHashMap<>();
+
+        for (int i = 0; i < groups.length; i++) {
+            grouped.computeIfAbsent(findGroup(groups, i), k -> new ArrayList<>()).add(tasks.get(i));
+        }
+
+        return new ArrayList<>(grouped.values());
+    }
+
+    private static int findGroup(int[] groups, int task) {
+        int group = task;
+
+        while (groups[group] != group) {
+            group = groups[group];
+        }
+
+        groups[task] = group;
+        return group;
+    }
+
+    private static <V> void addTasks(List<Task<?>> tasks,
+            Map<String, V> models,
+            BiConsumer<FilterUtil, V> contentFilter,
+            UnaryOperator<V> modelFilter,
+            Consumer<String> remover) {
+        if (models != null) {
+            for (Map.Entry<String, V> entry : models.entrySet()) {
+                tasks.add(new Task<>(entry.getKey(), entry.getValue(), contentFilter, modelFilter, remover));
+            }
+        }
+    }
+
+    /**
+     * Filtering of a single entry of the model during a concurrent traversal.
+     */
+    private static final class Task<V> {
+        private final String key;
+        private final V model;
+        private final BiConsumer<FilterUtil, V> contentFilter;
+        private final UnaryOperator<V> modelFilter;
+        private final Consumer<String> remover;
+        private boolean removed;
+
+        Task(String key, V model, BiConsumer<FilterUtil, V> contentFilter, UnaryOperator<V> modelFilter,
+                Consumer<String> remover) {
+            this.key = key;
+            this.model = model;
+            this.contentFilter = contentFilter;
+            this.modelFilter = modelFilter;
+            this.remover = remover;
+        }
+
+        void run(FilterUtil util) {
+            if (model != null && util.push(model)) {
+                if (contentFilter != null && util.visit(model)) {
+                    contentFilter.accept(util, model);
+                }
+                removed = modelFilter.apply(model) == null;
+            }
+        }
+
+        void complete() {
+            if (removed) {
+                remover.accept(key);
+            }
+        }
     }
 
     private OpenAPI filter(OASFilter filter, OpenAPI model) {
@@ -58,7 +300,7 @@ public class FilterUtil {
 
         if (model.getPaths() != null) {
             filter(filter,
-                    model.getPaths().getPathItems(),
+                    entries(model.getPaths(), Paths::getPathItems),
                     this::filterPathItem,
                     filter::filterPathItem,
                     model.getPaths()::removePathItem);
@@ -93,6 +335,15 @@ public class FilterUtil {
         }
     }
 
+    /**
+     * Read the entries of a model that is a map, without creating an unmodifiable view
+     * when the model is a {@link MapModel}. The result must not be modified.
+     */
+    @SuppressWarnings("unchecked")
+    private static <M, V> Map<String, V> entries(M model, Function<M, Map<String, V>> getter) {
+        return model instanceof MapModel ? ((MapModel<V>) model).getMap() : getter.apply(model);
+    }
+
     boolean push(Object model) {
         boolean cyclicReference = stack.containsKey(model);
 
@@ -105,6 +356,13 @@ public class FilterUtil {
         return !cyclicReference;
     }
 
+    /**
+     * Determine whether the content of the model is to be traversed.
+     */
+    boolean visit(Object model) {
+        return visitor == null || visitor.test(model);
+    }
+
     /**
      * Filters the given models.
      *
@@ -123,14 +381,14 @@ public class FilterUtil {
 
         if (models != null) {
             // The collection must be copied since the original may be modified via the remover
-            for (Map.Entry<K, V> entry : new LinkedHashSet<>(models.entrySet())) {
+            for (Map.Entry<K, V> entry : new ArrayList<>(models.entrySet())) {
                 V model = entry.getValue();
 
                 if (!push(model)) {
                     continue;
                 }
 
-                if (contentFilter != null) {
+                if (contentFilter != null && visit(model)) {
                     contentFilter.accept(filter, model);
                 }
 
@@ -166,7 +424,7 @@ public class FilterUtil {
                     continue;
                 }
 
-                if (contentFilter != null) {
+                if (contentFilter != null && visit(model)) {
                     contentFilter.accept(filter, model);
                 }
 
@@ -200,11 +458,16 @@ public class FilterUtil {
                 return;
             }
 
-            if (contentFilter != null) {
+            if (contentFilter != null && visit(model)) {
                 contentFilter.accept(filter, model);
             }
 
-            mutator.accept(modelFilter.apply(model));
+            T result = modelFilter.apply(model);
+
+            if (result != model) {
+                mutator.accept(result);
+            }
+
             stack.remove(model);
         }
     }
@@ -217,14 +480,17 @@ public class FilterUtil {
      */
     private void filterCallback(OASFilter filter, Callback model) {
         Optional.ofNullable(model)
-                .map(Callback::getPathItems)
+                .map(m -> entries(m, Callback::getPathItems))
                 .map(Map::keySet)
                 .map(ArrayList::new)
                 .map(Collection::stream)
                 .orElseGet(Stream::empty)
                 .forEach(key -> {
                     PathItem childModel = model.getPathItem(key);
-                    filterPathItem(filter, childModel);
+
+                    if (visit(childModel)) {
+                        filterPathItem(filter, childModel);
+                    }
 
                     if (filter.filterPathItem(childModel) == null) {
                         model.removePathItem(key);
@@ -263,20 +529,28 @@ public class FilterUtil {
      */
     private void filterOperation(OASFilter filter, Operation model, Consumer<Operation> mutator) {
         if (model != null) {
-            filter(filter, model.getCallbacks(), this::filterCallback, filter::filterCallback, model::removeCallback);
-            filter(filter, model.getParameters(), this::filterParameter, filter::filterParameter, model::removeParameter);
-            filter(filter, model.getRequestBody(), this::filterRequestBody, filter::filterRequestBody,
-                    model::setRequestBody);
+            if (visit(model)) {
+                filter(filter, model.getCallbacks(), this::filterCallback, filter::filterCallback, model::removeCallback);
+                filter(filter, model.getParameters(), this::filterParameter, filter::filterParameter,
+                        model::removeParameter);
+                filter(filter, model.getRequestBody(), this::filterRequestBody, filter::filterRequestBody,
+                        model::setRequestBody);
+
+                if (model.getResponses() != null) {
+                    APIResponses responses = model.getResponses();
+                    filter(filter, entries(responses, APIResponses::getAPIResponses), this::filterAPIResponse,
+                            filter::filterAPIResponse,
+                            responses::removeAPIResponse);
+                }
 
-            if (model.getResponses() != null) {
-                APIResponses responses = model.getResponses();
-                filter(filter, responses.getAPIResponses(), this::filterAPIResponse, filter::filterAPIResponse,
-                        responses::removeAPIResponse);
+                filter(filter, model.getServers(), null, filter::filterServer, model::removeServer);
             }
 
-            filter(filter, model.getServers(), null, filter::filterServer, model::removeServer);
+            Operation result = filter.filterOperation(model);
 
-            mutator.accept(filter.filterOperation(model));
+            if (result != model) {
+                mutator.accept(result);
+            }
         }
     }
 
@@ -300,8 +574,10 @@ public class FilterUtil {
      * @param model
      */
     private void filterContent(OASFilter filter, Content model) {
-        if (model != null && model.getMediaTypes() != null) {
-            Collection<String> keys = new ArrayList<>(model.getMediaTypes().keySet());
+        Map<String, MediaType> mediaTypes = model != null ? entries(model, Content::getMediaTypes) : null;
+
+        if (mediaTypes != null) {
+            Collection<String> keys = new ArrayList<>(mediaTypes.keySet());
             for (String key : keys) {
                 MediaType childModel = model.getMediaType(key);
                 filterMediaType(filter, childModel);
@@ -411,12 +687,12 @@ public class FilterUtil {
         if (model != null) {
             filter(filter, model.getAdditionalPropertiesSchema(), this::filterSchema, filter::filterSchema,
                     model::setAdditionalPropertiesSchema);
-            filter(filter, model.getAllOf(), this::filterSchema, filter::filterSchema, model::removeAllOf);
-            filter(filter, model.getAnyOf(), this::filterSchema, filter::filterSchema, model::removeAnyOf);
-            filter(filter, model.getOneOf(), this::filterSchema, filter::filterSchema, model::removeOneOf);
+            filter(filter, SchemaImpl.allOf(model), this::filterSchema, filter::filterSchema, model::removeAllOf);
+            filter(filter, SchemaImpl.anyOf(model), this::filterSchema, filter::filterSchema, model::removeAnyOf);
+            filter(filter, SchemaImpl.oneOf(model), this::filterSchema, filter::filterSchema, model::removeOneOf);
             filter(filter, model.getItems(), this::filterSchema, filter::filterSchema, model::setItems);
             filter(filter, model.getNot(), this::filterSchema, filter::filterSchema, model::setNot);
-            filter(filter, model.getProperties(), this::filterSchema, filter::filterSchema, model::removeProperty);
+            filter(filter, SchemaImpl.properties(model), this::filterSchema, filter::filterSchema, model::removeProperty);
         }
     }
 }
@@ -3,6 +3,7 @@ package io.smallrye.openapi.api.util;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.AbstractMap;
@@ -16,11 +17,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.openapi.models.Constructible;
 import org.eclipse.microprofile.openapi.models.Extensible;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.Reference;
+import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.eclipse.microprofile.openapi.models.parameters.Parameter;
 import org.eclipse.microprofile.openapi.models.responses.APIResponses;
 import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
@@ -28,6 +31,7 @@ import org.eclipse.microprofile.openapi.models.servers.Server;
 import org.eclipse.microprofile.openapi.models.tags.Tag;
 
 import io.smallrye.openapi.api.models.ModelImpl;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
 import io.smallrye.openapi.runtime.OpenApiRuntimeException;
 
 /**
@@ -47,6 +51,13 @@ public class MergeUtil {
         EXCLUDED_PROPERTIES.add("openapi");
     }
 
+    private static final ClassValue<ModelProperties> MODEL_PROPERTIES = new ClassValue<ModelProperties>() {
+        @Override
+        protected ModelProperties computeValue(Class<?> type) {
+            return new ModelProperties(type);
+        }
+    };
+
     private MergeUtil() {
     }
 
@@ -112,6 +123,81 @@ public class MergeUtil {
         return object1;
     }
 
+    /**
+     * Creates a deep copy of a model object. Nested models, maps, and lists are copied rather
+     * than shared with the original. Schemas are copied with {@link SchemaImpl#copyWithState(Schema)},
+     * other models by way of their bean properties, which are introspected once per class.
+     *
+     * @param object the model to copy
+     * @param <T> Type parameter
+     * @return copy of the model, or the object itself when it is not a model
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T copyObject(T object) {
+        if (object instanceof Schema) {
+            return (T) SchemaImpl.copyWithState((Schema) object);
+        }
+        if (!(object instanceof Constructible)) {
+            return object;
+        }
+
+        ModelProperties properties = MODEL_PROPERTIES.get(object.getClass());
+
+        try {
+            T copy = (T) properties.constructor.newInstance();
+
+            for (PropertyDescriptor descriptor : properties.descriptors) {
+                Object value = descriptor.getReadMethod().invoke(object);
+
+                if (value != null) {
+                    descriptor.getWriteMethod().invoke(copy, copyValue(value));
+                }
+            }
+
+            return copy;
+        } catch (ReflectiveOperationException e) {
+            throw new OpenApiRuntimeException(e);
+        }
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static Object copyValue(Object value) {
+        if (value instanceof Constructible) {
+            return copyObject(value);
+        }
+        if (value instanceof Map) {
+            Map copy = new LinkedHashMap<>();
+            ((Map<?, ?>) value).forEach((k, v) -> copy.put(k, copyValue(v)));
+            return copy;
+        }
+        if (value instanceof List) {
+            List copy = new ArrayList<>(((List<?>) value).size());
+            ((List<?>) value).forEach(v -> copy.add(copyValue(v)));
+            return copy;
+        }
+        return value;
+    }
+
+    /**
+     * The no-arg constructor and the read/write bean properties of a model class
+     */
+    private static final class ModelProperties {
+        final Constructor<?> constructor;
+        final List<PropertyDescriptor> descriptors;
+
+        ModelProperties(Class<?> type) {
+            try {
+                this.constructor = type.getDeclaredConstructor();
+                this.descriptors = Arrays.stream(Introspector.getBeanInfo(type).getPropertyDescriptors())
+                        .filter(descriptor -> descriptor.getReadMethod() != null)
+                        .filter(descriptor -> descriptor.getWriteMethod() != null)
+                        .collect(Collectors.toList());
+            } catch (IntrospectionException | ReflectiveOperationException e) {
+                throw new OpenApiRuntimeException(e);
+            }
+        }
+    }
+
     @SuppressWarnings({ "rawtypes" })
     static <T> void mergeProperty(T object1, T object2, PropertyDescriptor descriptor)
             throws IllegalAccessException, IllegalArgumentException, InvocationTargetException {
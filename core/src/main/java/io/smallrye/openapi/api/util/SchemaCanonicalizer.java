@@ -0,0 +1,286 @@
+package io.smallrye.openapi.api.util;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.ExternalDocumentation;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Discriminator;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.XML;
+
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.runtime.util.ModelUtil;
+
+/**
+ * Filter that replaces structurally identical schemas in the model with a single shared
+ * instance (hash-consing). Schemas are visited children first, so by the time a schema is
+ * visited its nested schemas are already canonical and two schemas are identical when their
+ * own attributes are equal and their nested schemas are the same instances.
+ *
+ * <p>
+ * Optionally, inline schemas with properties, enumerations or compositions used more than
+ * once are promoted to {@code #/components/schemas} and replaced by a {@code $ref}.
+ *
+ * <p>
+ * The filter must be applied after any other filter, since a change to a shared instance is
+ * visible everywhere the instance is used.
+ */
+public class SchemaCanonicalizer implements OASFilter {
+
+    private static final String INLINE_SCHEMA_NAME = "InlineSchema";
+    private static final Pattern COMPONENT_NAME = Pattern.compile("^[a-zA-Z0-9\\.\\-_]+$");
+
+    private final boolean promote;
+    private final Map<List<Object>, Schema> canonical = new HashMap<>();
+    private final Map<Schema, Integer> usages = new IdentityHashMap<>();
+    private final List<Schema> canonicalOrder = new ArrayList<>();
+    private final Map<Schema, Schema> replacements = new IdentityHashMap<>();
+
+    /**
+     * @param promote true if inline schemas used more than once should be moved
+     *        to {@code #/components/schemas}
+     */
+    public SchemaCanonicalizer(boolean promote) {
+        this.promote = promote;
+    }
+
+    @Override
+    public Schema filterSchema(Schema schema) {
+        // Nested schemas in lists and maps are not replaced by FilterUtil, only single-valued ones
+        replaceNested(schema, s -> replacements.getOrDefault(s, s));
+
+        Schema result = canonical.computeIfAbsent(key(schema), k -> {
+            canonicalOrder.add(schema);
+            return schema;
+        });
+
+        if (result != schema) {
+            replacements.put(schema, result);
+        }
+
+        usages.merge(result, 1, Integer::sum);
+        return result;
+    }
+
+    @Override
+    public void filterOpenAPI(OpenAPI openAPI) {
+        UtilLogging.logger.schemasCanonicalized(usages.values().stream().mapToInt(Integer::intValue).sum(),
+                canonical.size());
+
+        if (promote) {
+            Map<Schema, Schema> references = promoteInlineSchemas(openAPI);
+
+            if (!references.isEmpty()) {
+                FilterUtil.applyFilter(new ReferenceReplacer(references), openAPI);
+            }
+        }
+
+        canonical.clear();
+        usages.clear();
+        canonicalOrder.clear();
+        replacements.clear();
+    }
+
+    private Map<Schema, Schema> promoteInlineSchemas(OpenAPI openAPI) {
+        Map<String, Schema> componentSchemas = Optional.ofNullable(openAPI.getComponents())
+                .map(Components::getSchemas)
+                .orElseGet(Collections::emptyMap);
+        Set<Schema> components = Collections.newSetFromMap(new IdentityHashMap<>());
+        components.addAll(componentSchemas.values());
+
+        Map<Schema, Schema> references = new IdentityHashMap<>();
+        Set<String> names = new HashSet<>(componentSchemas.keySet());
+
+        for (Schema schema : canonicalOrder) {
+            if (usages.get(schema) > 1 && !components.contains(schema) && isPromotable(schema)) {
+                String name = deriveName(schema, names);
+                names.add(name);
+                ModelUtil.components(openAPI).addSchema(name, schema);
+                references.put(schema, new SchemaImpl().ref(name));
+                UtilLogging.logger.inlineSchemaPromoted(name);
+            }
+        }
+
+        return references;
+    }
+
+    private static boolean isPromotable(Schema schema) {
+        return schema.getRef() == null && (notEmpty(schema.getProperties())
+                || notEmpty(schema.getEnumeration())
+                || notEmpty(schema.getAllOf())
+                || notEmpty(schema.getAnyOf())
+                || notEmpty(schema.getOneOf()));
+    }
+
+    private static boolean notEmpty(Map<?, ?> map) {
+        return map != null && !map.isEmpty();
+    }
+
+    private static boolean notEmpty(List<?> list) {
+        return list != null && !list.isEmpty();
+    }
+
+    private static String deriveName(Schema schema, Set<String> names) {
+        String title = schema.getTitle();
+        String nameBase = title != null && COMPONENT_NAME.matcher(title).matches() ? title : INLINE_SCHEMA_NAME;
+        String name = nameBase;
+        int idx = 1;
+
+        while (name.equals(INLINE_SCHEMA_NAME) || names.contains(name)) {
+            name = nameBase + idx++;
+        }
+
+        return name;
+    }
+
+    /**
+     * Replace the schemas nested in the lists and maps of the schema, e.g. its properties.
+     */
+    static void replaceNested(Schema schema, UnaryOperator<Schema> replacement) {
+        replace(schema.getAllOf(), replacement, schema::setAllOf);
+        replace(schema.getAnyOf(), replacement, schema::setAnyOf);
+        replace(schema.getOneOf(), replacement, schema::setOneOf);
+
+        Map<String, Schema> properties = schema.getProperties();
+
+        if (properties != null && properties.values().stream().anyMatch(s -> s != null && replacement.apply(s) != s)) {
+            Map<String, Schema> replaced = new LinkedHashMap<>(properties.size());
+            properties.forEach((name, s) -> replaced.put(name, s != null ? replacement.apply(s) : null));
+            schema.setProperties(replaced);
+        }
+    }
+
+    private static void replace(List<Schema> schemas, UnaryOperator<Schema> replacement, Consumer<List<Schema>> setter) {
+        if (schemas != null && schemas.stream().anyMatch(s -> s != null && replacement.apply(s) != s)) {
+            List<Schema> replaced = new ArrayList<>(schemas.size());
+
+            for (Schema s : schemas) {
+                replaced.add(s != null ? replacement.apply(s) : null);
+            }
+
+            setter.accept(replaced);
+        }
+    }
+
+    /**
+     * Structural key of a schema. Nested schemas are compared by identity (the
+     * default for {@link SchemaImpl}), the remaining attributes by value. Maps are
+     * compared including the order of their entries, which is kept when serialized.
+     */
+    static List<Object> key(Schema schema) {
+        return Arrays.asList(
+                schema.getClass(),
+                schema instanceof SchemaImpl ? ((SchemaImpl) schema).getName() : null,
+                schema.getRef(),
+                schema.getType(),
+                schema.getFormat(),
+                schema.getTitle(),
+                schema.getDescription(),
+                ordered(schema.getDefaultValue()),
+                ordered(schema.getExample()),
+                schema.getMultipleOf(),
+                schema.getMaximum(),
+                schema.getExclusiveMaximum(),
+                schema.getMinimum(),
+                schema.getExclusiveMinimum(),
+                schema.getMaxLength(),
+                schema.getMinLength(),
+                schema.getPattern(),
+                schema.getMaxItems(),
+                schema.getMinItems(),
+                schema.getUniqueItems(),
+                schema.getMaxProperties(),
+                schema.getMinProperties(),
+                schema.getRequired(),
+                ordered(schema.getEnumeration()),
+                schema.getItems(),
+                schema.getAllOf(),
+                schema.getAnyOf(),
+                schema.getOneOf(),
+                schema.getNot(),
+                ordered(schema.getProperties()),
+                schema.getAdditionalPropertiesSchema(),
+                schema.getAdditionalPropertiesBoolean(),
+                schema.getReadOnly(),
+                schema.getWriteOnly(),
+                schema.getNullable(),
+                schema.getDeprecated(),
+                key(schema.getXml()),
+                key(schema.getExternalDocs()),
+                key(schema.getDiscriminator()),
+                ordered(schema.getExtensions()));
+    }
+
+    private static List<Object> key(XML xml) {
+        return xml == null ? null
+                : Arrays.asList(xml.getName(), xml.getNamespace(), xml.getPrefix(), xml.getAttribute(), xml.getWrapped(),
+                        ordered(xml.getExtensions()));
+    }
+
+    private static List<Object> key(ExternalDocumentation externalDocs) {
+        return externalDocs == null ? null
+                : Arrays.asList(externalDocs.getDescription(), externalDocs.getUrl(),
+                        ordered(externalDocs.getExtensions()));
+    }
+
+    private static List<Object> key(Discriminator discriminator) {
+        return discriminator == null ? null
+                : Arrays.asList(discriminator.getPropertyName(), ordered(discriminator.getMapping()));
+    }
+
+    /**
+     * Key of a value holding maps, e.g. an example or an extension, replacing each map
+     * with the list of its entries, in order.
+     */
+    private static Object ordered(Object value) {
+        if (value instanceof Map) {
+            List<Object> entries = new ArrayList<>();
+            ((Map<?, ?>) value).forEach((k, v) -> entries.add(new SimpleEntry<>(k, ordered(v))));
+            return entries;
+        }
+        if (value instanceof List) {
+            List<Object> elements = new ArrayList<>();
+            ((List<?>) value).forEach(element -> elements.add(ordered(element)));
+            return elements;
+        }
+        return value;
+    }
+
+    /**
+     * Second pass when schemas are promoted, replacing each use of a promoted schema
+     * with a reference to it.
+     */
+    private static class ReferenceReplacer implements OASFilter {
+        private final Map<Schema, Schema> references;
+
+        ReferenceReplacer(Map<Schema, Schema> references) {
+            this.references = references;
+        }
+
+        @Override
+        public Schema filterSchema(Schema schema) {
+            replaceNested(schema, this::referenceOf);
+            return referenceOf(schema);
+        }
+
+        private Schema referenceOf(Schema schema) {
+            return references.getOrDefault(schema, schema);
+        }
+    }
+}
@@ -27,4 +27,12 @@ interface UtilLogging extends BasicLogger {
     @Message(id = 1003, value = "Merge of property would result in cyclic object reference in OpenAPI model, skipping property '%s' in type %s")
     void cylicReferenceAvoided(String propertyName, String typeName);
 
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 1004, value = "Schemas canonicalized: %d schema uses share %d distinct instances")
+    void schemasCanonicalized(int uses, int instances);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 1005, value = "Inline schema used more than once added to #/components/schemas: %s")
+    void inlineSchemaPromoted(String name);
+
 }
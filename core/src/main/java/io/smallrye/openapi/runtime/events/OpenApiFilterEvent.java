@@ -0,0 +1,36 @@
+package io.smallrye.openapi.runtime.events;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event recording the duration of the application of an {@link OASFilter} to
+ * the OpenAPI model.
+ */
+@Name("io.smallrye.openapi.Filter")
+@Label("OpenAPI Filter")
+@Description("Application of a filter to the OpenAPI model")
+@Category({ "SmallRye", "OpenAPI" })
+@StackTrace(false)
+public class OpenApiFilterEvent extends jdk.jfr.Event {
+
+    @Label("Filter Class")
+    private Class<?> filterClass;
+
+    /**
+     * Commit the event if it is enabled and its duration exceeds the threshold.
+     *
+     * @param filter the applied filter
+     */
+    public void complete(OASFilter filter) {
+        if (shouldCommit()) {
+            this.filterClass = filter.getClass();
+            commit();
+        }
+    }
+}
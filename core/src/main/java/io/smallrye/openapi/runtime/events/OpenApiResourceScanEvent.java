@@ -0,0 +1,49 @@
+package io.smallrye.openapi.runtime.events;
+
+import org.jboss.jandex.ClassInfo;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event recording the duration of the scan of a single resource class (e.g. a
+ * JAX-RS resource or a Spring controller) by an annotation scanner. Only scans taking
+ * at least one millisecond are recorded by default.
+ */
+@Name("io.smallrye.openapi.ResourceScan")
+@Label("OpenAPI Resource Scan")
+@Description("Scan of a resource class by an OpenAPI annotation scanner")
+@Category({ "SmallRye", "OpenAPI" })
+@StackTrace(false)
+@Threshold("1 ms")
+public class OpenApiResourceScanEvent extends jdk.jfr.Event {
+
+    @Label("Scanner")
+    private String scanner;
+
+    @Label("Resource Class")
+    private String resourceClass;
+
+    @Label("Method Count")
+    @Description("Number of methods declared by the resource class")
+    private int methodCount;
+
+    /**
+     * Commit the event if it is enabled and its duration exceeds the threshold.
+     *
+     * @param scanner name of the annotation scanner
+     * @param resourceClass the scanned class
+     */
+    public void complete(String scanner, ClassInfo resourceClass) {
+        if (shouldCommit()) {
+            this.scanner = scanner;
+            this.resourceClass = resourceClass.name().toString();
+            this.methodCount = resourceClass.methods().size();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.smallrye.openapi.runtime.events;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.microprofile.openapi.models.Components;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Paths;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event recording the duration of a phase of the OpenAPI model generation, e.g.
+ * reading static files or running one of the annotation scanners, together with the
+ * size of the model at the end of the phase.
+ */
+@Name("io.smallrye.openapi.ScanPhase")
+@Label("OpenAPI Scan Phase")
+@Description("A phase of the OpenAPI model generation")
+@Category({ "SmallRye", "OpenAPI" })
+@StackTrace(false)
+public class OpenApiScanPhaseEvent extends jdk.jfr.Event {
+
+    @Label("Phase")
+    private String phase;
+
+    @Label("Scanner")
+    @Description("Name of the annotation scanner, if the phase is run by a scanner")
+    private String scanner;
+
+    @Label("Path Count")
+    private int pathCount;
+
+    @Label("Schema Count")
+    @Description("Number of schemas in the model's components")
+    private int schemaCount;
+
+    /**
+     * Commit the event if it is enabled and its duration exceeds the threshold. The
+     * model is only inspected when the event is committed.
+     *
+     * @param phase name of the phase
+     * @param scanner name of the annotation scanner, or null
+     * @param model the model at the end of the phase, may be null
+     */
+    public void complete(String phase, String scanner, OpenAPI model) {
+        if (shouldCommit()) {
+            this.phase = phase;
+            this.scanner = scanner;
+
+            if (model != null) {
+                pathCount = Optional.ofNullable(model.getPaths()).map(Paths::getPathItems).map(Map::size).orElse(0);
+                schemaCount = Optional.ofNullable(model.getComponents()).map(Components::getSchemas).map(Map::size)
+                        .orElse(0);
+            }
+
+            commit();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package io.smallrye.openapi.runtime.events;
+
+import org.jboss.jandex.Type;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event recording the registration of a schema in the
+ * {@link io.smallrye.openapi.runtime.scanner.SchemaRegistry SchemaRegistry}. At most
+ * one event is recorded per schema registered in the model's components. Registrations
+ * are frequent and short, so the event is disabled by default and must be enabled
+ * explicitly in the recording's settings.
+ */
+@Name("io.smallrye.openapi.SchemaRegistration")
+@Label("OpenAPI Schema Registration")
+@Description("Registration of a schema in the OpenAPI components")
+@Category({ "SmallRye", "OpenAPI" })
+@StackTrace(false)
+@Enabled(false)
+public class OpenApiSchemaRegistrationEvent extends jdk.jfr.Event {
+
+    @Label("Type")
+    private String type;
+
+    @Label("Schema Name")
+    private String schemaName;
+
+    @Label("Reference Only")
+    @Description("Whether only a reference was registered, the schema being added later")
+    private boolean referenceOnly;
+
+    @Label("Registered Count")
+    @Description("Number of schemas registered, including this one")
+    private int registeredCount;
+
+    /**
+     * Commit the event if it is enabled.
+     *
+     * @param type the registered type
+     * @param schemaName the name of the schema in the components
+     * @param referenceOnly whether only a reference was registered
+     * @param registeredCount number of schemas registered, including this one
+     */
+    public void complete(Type type, String schemaName, boolean referenceOnly, int registeredCount) {
+        if (shouldCommit()) {
+            this.type = type.toString();
+            this.schemaName = schemaName;
+            this.referenceOnly = referenceOnly;
+            this.registeredCount = registeredCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.smallrye.openapi.runtime.events;
+
+import io.smallrye.openapi.runtime.io.Format;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event recording the duration of the serialization of an OpenAPI model to
+ * JSON or YAML.
+ */
+@Name("io.smallrye.openapi.Serialize")
+@Label("OpenAPI Serialize")
+@Description("Serialization of the OpenAPI model")
+@Category({ "SmallRye", "OpenAPI" })
+@StackTrace(false)
+public class OpenApiSerializeEvent extends jdk.jfr.Event {
+
+    @Label("Format")
+    private String format;
+
+    @Label("Length")
+    @Description("Number of characters written, or -1 when written to a java.io.Writer")
+    private long length;
+
+    /**
+     * Commit the event if it is enabled and its duration exceeds the threshold.
+     *
+     * @param format the format of the output
+     * @param length number of characters written, or -1 if unknown
+     */
+    public void complete(Format format, long length) {
+        if (shouldCommit()) {
+            this.format = format.name();
+            this.length = length;
+            commit();
+        }
+    }
+}
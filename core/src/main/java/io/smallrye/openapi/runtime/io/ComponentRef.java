@@ -0,0 +1,107 @@
+package io.smallrye.openapi.runtime.io;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A parsed {@code $ref} value. Instances are interned by {@link #of(String)}, so
+ * that each distinct reference string is only parsed once.
+ */
+public final class ComponentRef {
+
+    /**
+     * Upper bound for the number of interned references, references parsed once the
+     * limit is reached are not retained.
+     */
+    private static final int MAX_INTERNED = 16384;
+    private static final Map<String, ComponentRef> INTERNED = new ConcurrentHashMap<>();
+
+    private final String ref;
+    private final ReferenceType type;
+    private final String name;
+
+    private ComponentRef(String ref, ReferenceType type, String name) {
+        this.ref = ref;
+        this.type = type;
+        this.name = name;
+    }
+
+    /**
+     * Parse a reference, e.g. {@code #/components/schemas/MySchema}.
+     *
+     * @param ref the value of a {@code $ref}
+     * @return the parsed reference
+     */
+    public static ComponentRef of(String ref) {
+        Objects.requireNonNull(ref);
+        ComponentRef result = INTERNED.get(ref);
+
+        if (result == null) {
+            result = parse(ref);
+
+            if (INTERNED.size() < MAX_INTERNED) {
+                ComponentRef existing = INTERNED.putIfAbsent(ref, result);
+                result = existing != null ? existing : result;
+            }
+        }
+
+        return result;
+    }
+
+    private static ComponentRef parse(String ref) {
+        if (ref.startsWith("#")) {
+            // Trailing separators are ignored, as by String#split
+            int end = ref.length();
+
+            while (end > 0 && ref.charAt(end - 1) == '/') {
+                end--;
+            }
+
+            int nameStart = ref.lastIndexOf('/', end - 1) + 1;
+
+            if (nameStart > 0) {
+                int typeStart = ref.lastIndexOf('/', nameStart - 2) + 1;
+                ReferenceType type = ReferenceType.fromComponentPath(ref.substring(typeStart, nameStart - 1));
+                return new ComponentRef(ref, type, ref.substring(nameStart, end));
+            }
+        }
+
+        return new ComponentRef(ref, null, null);
+    }
+
+    /**
+     * @return the reference as given to {@link #of(String)}
+     */
+    public String getRef() {
+        return ref;
+    }
+
+    /**
+     * @return the type of the referenced component, or null if the reference is
+     *         not a reference to a local component
+     */
+    public ReferenceType getType() {
+        return type;
+    }
+
+    /**
+     * @return name of the referenced component, or null if the reference is not
+     *         a reference to a local component
+     */
+    public String getName() {
+        return type != null ? name : null;
+    }
+
+    /**
+     * @return true if the reference refers to an entry of the document's {@code #/components}
+     */
+    public boolean isComponent() {
+        return type != null;
+    }
+
+    @Override
+    public String toString() {
+        return ref;
+    }
+}
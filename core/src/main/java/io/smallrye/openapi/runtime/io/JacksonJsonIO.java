@@ -2,6 +2,7 @@ package io.smallrye.openapi.runtime.io;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -16,6 +17,7 @@ import org.eclipse.microprofile.config.ConfigProvider;
 import org.yaml.snakeyaml.LoaderOptions;
 
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
@@ -42,7 +44,8 @@ class JacksonJsonIO implements JsonIO<JsonNode, ArrayNode, ObjectNode, ArrayNode
     public JacksonJsonIO(OpenApiConfig config, ObjectMapper objectMapper) {
         this.config = config != null ? config : OpenApiConfig.fromConfig(ConfigProvider.getConfig());
         this.jsonMapper = objectMapper;
-        this.jsonWriter = objectMapper.writerWithDefaultPrettyPrinter();
+        this.jsonWriter = objectMapper.writerWithDefaultPrettyPrinter()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
 
         LoaderOptions loaderOptions = new LoaderOptions();
         Optional.ofNullable(this.config.getMaximumStaticFileSize()).ifPresent(loaderOptions::setCodePointLimit);
@@ -55,7 +58,8 @@ class JacksonJsonIO implements JsonIO<JsonNode, ArrayNode, ObjectNode, ArrayNode
                 .build();
 
         this.yamlMapper = jsonMapper.copyWith(yamlFactory);
-        this.yamlWriter = yamlMapper.writer().with(yamlFactory);
+        this.yamlWriter = yamlMapper.writer().with(yamlFactory)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     public JacksonJsonIO(OpenApiConfig config) {
@@ -284,6 +288,16 @@ class JacksonJsonIO implements JsonIO<JsonNode, ArrayNode, ObjectNode, ArrayNode
         }
     }
 
+    @Override
+    public void write(JsonNode value, Format format, Writer writer) throws IOException {
+        if (format == Format.JSON) {
+            jsonWriter.writeValue(writer, value);
+        } else {
+            yamlWriter.writeValue(writer, value);
+        }
+        writer.flush();
+    }
+
     @Override
     public JsonNode fromReader(Reader reader, Format format) {
         try {
@@ -1,5 +1,7 @@
 package io.smallrye.openapi.runtime.io;
 
+import java.io.FilterWriter;
+import java.io.IOException;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
@@ -26,9 +28,9 @@ import jakarta.json.JsonReaderFactory;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
 import jakarta.json.JsonValue.ValueType;
-import jakarta.json.JsonWriter;
-import jakarta.json.JsonWriterFactory;
 import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
 
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.yaml.snakeyaml.DumperOptions;
@@ -43,16 +45,16 @@ class JakartaJsonIO implements JsonIO<JsonValue, JsonArray, JsonObject, JsonArra
     private final OpenApiConfig config;
     private final JsonProvider json;
     private final JsonReaderFactory jsonReaderFactory;
-    private final JsonWriterFactory jsonWriterFactory;
+    private final JsonGeneratorFactory jsonGeneratorFactory;
 
     private final JsonReaderFactory yamlReaderFactory;
-    private final JsonWriterFactory yamlWriterFactory;
+    private final JsonGeneratorFactory yamlGeneratorFactory;
 
     public JakartaJsonIO(OpenApiConfig config, JsonProvider jsonProvider, JsonProvider yamlProvider) {
-        this.config = config;
+        this.config = config != null ? config : OpenApiConfig.fromConfig(ConfigProvider.getConfig());
         this.json = jsonProvider;
         this.jsonReaderFactory = jsonProvider.createReaderFactory(Collections.emptyMap());
-        this.jsonWriterFactory = jsonProvider.createWriterFactory(Collections.emptyMap());
+        this.jsonGeneratorFactory = jsonProvider.createGeneratorFactory(Collections.emptyMap());
 
         LoaderOptions loaderOptions = new LoaderOptions();
         Optional.ofNullable(this.config.getMaximumStaticFileSize()).ifPresent(loaderOptions::setCodePointLimit);
@@ -65,7 +67,7 @@ class JakartaJsonIO implements JsonIO<JsonValue, JsonArray, JsonObject, JsonArra
         Map<String, Object> yamlWriterConfig = new HashMap<>();
         yamlWriterConfig.put(Yaml.Settings.DUMP_CONFIG, dumperOptions);
         yamlWriterConfig.put(Yaml.Settings.DUMP_MINIMIZE_QUOTES, true);
-        this.yamlWriterFactory = yamlProvider.createWriterFactory(yamlWriterConfig);
+        this.yamlGeneratorFactory = yamlProvider.createGeneratorFactory(yamlWriterConfig);
     }
 
     public JakartaJsonIO(OpenApiConfig config) {
@@ -255,16 +257,36 @@ class JakartaJsonIO implements JsonIO<JsonValue, JsonArray, JsonObject, JsonArra
     public String toString(JsonValue value, Format format) {
         Writer output = new StringWriter();
 
-        try (JsonWriter writer = format == Format.JSON ? jsonWriterFactory.createWriter(output)
-                : yamlWriterFactory.createWriter(output)) {
-            writer.write(value);
-        } catch (JsonException e) {
-            throw new OpenApiRuntimeException("Failed to read " + format + " stream", e);
+        try {
+            write(value, format, output);
+        } catch (IOException e) {
+            throw new OpenApiRuntimeException(e);
         }
 
         return output.toString();
     }
 
+    @Override
+    public void write(JsonValue value, Format format, Writer output) throws IOException {
+        // The generator must be closed to complete the document, but the caller's writer remains open
+        Writer target = new FilterWriter(output) {
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+
+        try (JsonGenerator generator = format == Format.JSON ? jsonGeneratorFactory.createGenerator(target)
+                : yamlGeneratorFactory.createGenerator(target)) {
+            generator.write(value);
+        } catch (JsonException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new OpenApiRuntimeException("Failed to write " + format + " stream", e);
+        }
+    }
+
     @Override
     public JsonValue fromReader(Reader reader, Format format) {
         try (JsonReader jsonReader = format == Format.JSON ? jsonReaderFactory.createReader(reader)
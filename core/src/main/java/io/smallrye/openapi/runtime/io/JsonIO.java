@@ -6,6 +6,7 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
@@ -19,9 +20,27 @@ import io.smallrye.openapi.api.OpenApiConfig;
 public interface JsonIO<V, A extends V, O extends V, AB, OB> {
 
     public static <V, A extends V, O extends V, AB, OB> JsonIO<V, A, O, AB, OB> newInstance(OpenApiConfig config) {
-        @SuppressWarnings("unchecked")
-        JsonIO<V, A, O, AB, OB> jackson = (JsonIO<V, A, O, AB, OB>) new JacksonJsonIO(config);
-        return jackson;
+        if (isPresent("com.fasterxml.jackson.databind.ObjectMapper")) {
+            @SuppressWarnings("unchecked")
+            JsonIO<V, A, O, AB, OB> jackson = (JsonIO<V, A, O, AB, OB>) new JacksonJsonIO(config);
+            return jackson;
+        }
+        if (isPresent("jakarta.json.spi.JsonProvider")) {
+            // Jackson is not available, fall back to JSON-P
+            @SuppressWarnings("unchecked")
+            JsonIO<V, A, O, AB, OB> jakarta = (JsonIO<V, A, O, AB, OB>) new JakartaJsonIO(config);
+            return jakarta;
+        }
+        throw new IllegalStateException("No JSON implementation available: Jackson or Jakarta JSON-P required");
+    }
+
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, JsonIO.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
     }
 
     private boolean wrapped(String value, String prefix, String suffix) {
@@ -174,6 +193,21 @@ public interface JsonIO<V, A extends V, O extends V, AB, OB> {
 
     String toString(V object, Format format);
 
+    /**
+     * Write the value to the given writer in the requested format. Output is
+     * generated incrementally rather than being accumulated in an intermediate
+     * String. The writer is flushed, but not closed.
+     *
+     * @param object the value to write
+     * @param format the output format
+     * @param writer destination of the output
+     * @throws IOException when writing to the destination fails
+     */
+    default void write(V object, Format format, Writer writer) throws IOException {
+        writer.write(toString(object, format));
+        writer.flush();
+    }
+
     AB createArray();
 
     void add(AB array, V value);
@@ -8,6 +8,7 @@ import org.eclipse.microprofile.openapi.models.Extensible;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
 
+import io.smallrye.openapi.api.models.ExtensibleImpl;
 import io.smallrye.openapi.runtime.io.IOContext;
 import io.smallrye.openapi.runtime.io.IoLogging;
 import io.smallrye.openapi.runtime.io.MapModelIO;
@@ -86,8 +87,10 @@ public class ExtensionIO<V, A extends V, O extends V, AB, OB> extends MapModelIO
     }
 
     public Optional<O> write(Extensible<?> model) {
-        return optionalJsonObject(model.getExtensions()).map(node -> {
-            model.getExtensions()
+        Map<String, Object> extensions = ExtensibleImpl.extensions(model);
+
+        return optionalJsonObject(extensions).map(node -> {
+            extensions
                     .entrySet()
                     .stream()
                     .map(e -> isExtension(e) ? e : entry(EXTENSION_PROPERTY_PREFIX + e.getKey(), e.getValue()))
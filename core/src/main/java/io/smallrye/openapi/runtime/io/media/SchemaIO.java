@@ -146,12 +146,12 @@ public class SchemaIO<V, A extends V, O extends V, AB, OB> extends MapModelIO<Sc
                 setIfPresent(node, SchemaConstant.PROP_UNIQUE_ITEMS, jsonIO().toJson(model.getUniqueItems()));
                 setIfPresent(node, SchemaConstant.PROP_MAX_PROPERTIES, jsonIO().toJson(model.getMaxProperties()));
                 setIfPresent(node, SchemaConstant.PROP_MIN_PROPERTIES, jsonIO().toJson(model.getMinProperties()));
-                setIfPresent(node, SchemaConstant.PROP_REQUIRED, jsonIO().toJson(model.getRequired()));
-                setIfPresent(node, SchemaConstant.PROP_ENUM, jsonIO().toJson(model.getEnumeration()));
+                setIfPresent(node, SchemaConstant.PROP_REQUIRED, jsonIO().toJson(SchemaImpl.required(model)));
+                setIfPresent(node, SchemaConstant.PROP_ENUM, jsonIO().toJson(SchemaImpl.enumeration(model)));
                 setIfPresent(node, SchemaConstant.PROP_TYPE, jsonIO().toJson(model.getType()));
                 setIfPresent(node, SchemaConstant.PROP_ITEMS, write(model.getItems()));
-                setIfPresent(node, SchemaConstant.PROP_ALL_OF, write(model.getAllOf()));
-                setIfPresent(node, SchemaConstant.PROP_PROPERTIES, write(model.getProperties()));
+                setIfPresent(node, SchemaConstant.PROP_ALL_OF, write(SchemaImpl.allOf(model)));
+                setIfPresent(node, SchemaConstant.PROP_PROPERTIES, write(SchemaImpl.properties(model)));
                 if (model.getAdditionalPropertiesBoolean() != null) {
                     setIfPresent(node, SchemaConstant.PROP_ADDITIONAL_PROPERTIES,
                             jsonIO().toJson(model.getAdditionalPropertiesBoolean()));
@@ -162,8 +162,8 @@ public class SchemaIO<V, A extends V, O extends V, AB, OB> extends MapModelIO<Sc
                 setIfPresent(node, SchemaConstant.PROP_XML, write(model.getXml()));
                 setIfPresent(node, SchemaConstant.PROP_EXTERNAL_DOCS, externalDocIO.write(model.getExternalDocs()));
                 setIfPresent(node, SchemaConstant.PROP_EXAMPLE, jsonIO().toJson(model.getExample()));
-                setIfPresent(node, SchemaConstant.PROP_ONE_OF, write(model.getOneOf()));
-                setIfPresent(node, SchemaConstant.PROP_ANY_OF, write(model.getAnyOf()));
+                setIfPresent(node, SchemaConstant.PROP_ONE_OF, write(SchemaImpl.oneOf(model)));
+                setIfPresent(node, SchemaConstant.PROP_ANY_OF, write(SchemaImpl.anyOf(model)));
                 setIfPresent(node, SchemaConstant.PROP_NOT, write(model.getNot()));
                 setIfPresent(node, SchemaConstant.PROP_DISCRIMINATOR, discriminatorIO.write(model.getDiscriminator()));
                 setIfPresent(node, SchemaConstant.PROP_NULLABLE, jsonIO().toJson(model.getNullable()));
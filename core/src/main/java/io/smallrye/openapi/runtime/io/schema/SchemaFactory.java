@@ -487,6 +487,60 @@ public class SchemaFactory {
             }
         }
 
+        if (isCacheable(context, type)) {
+            schema = context.getTypeSchema(type, t -> typeToSchema(context, t, extensions));
+        } else {
+            schema = typeToSchema(context, type, extensions);
+        }
+
+        if (fromAnnotation != null) {
+            // Generate `allOf` ?
+            schema = MergeUtil.mergeObjects(schema, fromAnnotation);
+        }
+
+        return schema;
+    }
+
+    /**
+     * Determine whether the schema of a type may be reused within the scan. This is the
+     * case for types that are not registered in the {@link SchemaRegistry} themselves,
+     * like collections, maps, arrays and optionals, or any class when the registry is disabled.
+     * The type must not contain any type variables and must not be requested while a type
+     * is being scanned, since the result would then depend on the type being scanned.
+     */
+    private static boolean isCacheable(final AnnotationScannerContext context, Type type) {
+        if (!context.getScanStack().isEmpty() || !isConcrete(type)) {
+            return false;
+        }
+
+        switch (type.kind()) {
+            case ARRAY:
+            case PARAMETERIZED_TYPE:
+                return true;
+            case CLASS:
+                return context.getSchemaRegistry().isDisabled() && !TypeUtil.isTerminalType(type);
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isConcrete(Type type) {
+        switch (type.kind()) {
+            case CLASS:
+            case PRIMITIVE:
+                return true;
+            case ARRAY:
+                return isConcrete(type.asArrayType().component());
+            case PARAMETERIZED_TYPE:
+                return type.asParameterizedType().arguments().stream().allMatch(SchemaFactory::isConcrete);
+            default:
+                return false;
+        }
+    }
+
+    private static Schema typeToSchema(final AnnotationScannerContext context, Type type,
+            List<AnnotationScannerExtension> extensions) {
+        Schema schema;
         Optional<AnnotationScanner> currentScanner = context.getCurrentScanner();
 
         if (TypeUtil.isWrappedType(type)) {
@@ -522,11 +576,6 @@ public class SchemaFactory {
             schema = otherTypeToSchema(context, type, extensions);
         }
 
-        if (fromAnnotation != null) {
-            // Generate `allOf` ?
-            schema = MergeUtil.mergeObjects(schema, fromAnnotation);
-        }
-
         return schema;
     }
 
@@ -2,6 +2,7 @@ package io.smallrye.openapi.runtime.scanner;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
@@ -24,6 +25,7 @@ import org.eclipse.microprofile.openapi.models.tags.Tag;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Type;
 
@@ -32,6 +34,7 @@ import io.smallrye.openapi.api.SmallRyeOASConfig;
 import io.smallrye.openapi.api.models.OpenAPIImpl;
 import io.smallrye.openapi.api.util.ClassLoaderUtil;
 import io.smallrye.openapi.api.util.MergeUtil;
+import io.smallrye.openapi.runtime.events.OpenApiScanPhaseEvent;
 import io.smallrye.openapi.runtime.io.Names;
 import io.smallrye.openapi.runtime.io.OpenAPIDefinitionIO;
 import io.smallrye.openapi.runtime.io.schema.SchemaConstant;
@@ -223,21 +226,41 @@ public class OpenApiAnnotationScanner {
      */
     public OpenAPI scan(Predicate<String> filter) {
         // First scan the MicroProfile OpenAPI Annotations. Maybe later we can load this with SPI as well, and allow other Annotation sets.
+        OpenApiScanPhaseEvent microProfileEvent = new OpenApiScanPhaseEvent();
+        microProfileEvent.begin();
         OpenAPI openApi = scanMicroProfileOpenApiAnnotations();
+        microProfileEvent.complete("annotations", "OpenAPI", openApi);
 
         // Now load all entry points with SPI and scan those
         for (AnnotationScanner annotationScanner : getScanners(filter)) {
+            if (!isTriggered(annotationScanner)) {
+                ScannerLogging.logger.skippingScanner(annotationScanner.getName());
+                continue;
+            }
+
             ScannerLogging.logger.scanning(annotationScanner.getName());
             annotationScannerContext.setCurrentScanner(annotationScanner);
+            OpenApiScanPhaseEvent event = new OpenApiScanPhaseEvent();
+            event.begin();
             openApi = annotationScanner.scan(annotationScannerContext, openApi);
+            event.complete("annotations", annotationScanner.getName(), openApi);
         }
 
         sortTags(annotationScannerContext, openApi);
         sortMaps(openApi);
 
+        ScannerLogging.logger.typeSchemaCacheStatistics(annotationScannerContext.getTypeSchemaMisses(),
+                annotationScannerContext.getTypeSchemaHits());
+
         return openApi;
     }
 
+    private boolean isTriggered(AnnotationScanner scanner) {
+        Collection<DotName> triggers = scanner.getTriggerAnnotations();
+
+        return triggers.isEmpty() || !annotationScannerContext.getCandidateClasses(triggers).isEmpty();
+    }
+
     private Iterable<AnnotationScanner> getScanners(Predicate<String> filter) {
         return StreamSupport.stream(scannerSupplier.get().spliterator(), false)
                 .filter(scanner -> filter.test(scanner.getName()))
@@ -7,8 +7,16 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import java.util.stream.BaseStream;
 
 import org.eclipse.microprofile.openapi.models.media.Schema;
@@ -133,6 +141,11 @@ public class OpenApiDataObjectScanner {
     private final AnnotationScannerContext context;
     private final AugmentedIndexView index;
     private final DataObjectDeque objectStack;
+    /**
+     * Properties of the entries on the stack, resolved in advance on the common fork-join
+     * pool. Null unless the parallel scan of data objects is enabled.
+     */
+    private final Map<DataObjectDeque.PathEntry, ResolveFieldsTask> resolvedFields;
 
     /**
      * Constructor for data object scanner.
@@ -154,6 +167,7 @@ public class OpenApiDataObjectScanner {
         this.rootSchema = new SchemaImpl();
         this.rootClassInfo = initialType(classType);
         this.rootAnnotationTarget = annotationTarget;
+        this.resolvedFields = context.getConfig().parallelDataObjectScanEnable() ? new IdentityHashMap<>() : null;
     }
 
     /**
@@ -220,7 +234,16 @@ public class OpenApiDataObjectScanner {
             objectStack.push(root);
         }
 
-        depthFirstGraphSearch();
+        try {
+            depthFirstGraphSearch();
+        } finally {
+            // Entries left on the stack by a failed scan
+            if (resolvedFields != null) {
+                resolvedFields.values().forEach(ResolveFieldsTask::discard);
+                resolvedFields.clear();
+            }
+        }
+
         return rootSchema;
     }
 
@@ -228,6 +251,7 @@ public class OpenApiDataObjectScanner {
     private void depthFirstGraphSearch() {
         while (!objectStack.isEmpty()) {
             DataObjectDeque.PathEntry currentPathEntry = objectStack.pop();
+            int stackSize = objectStack.size();
 
             Type currentType = currentPathEntry.getClazzType();
             /*
@@ -240,6 +264,7 @@ public class OpenApiDataObjectScanner {
             if (registry.hasSchema(currentType, context.getJsonViews(), null)) {
                 // This type has already been scanned and registered, don't do it again!
                 entrySchema.setRef(registry.lookupRef(currentType, context.getJsonViews()).getRef());
+                discardResolvedFields(currentPathEntry);
                 continue;
             }
 
@@ -266,9 +291,7 @@ public class OpenApiDataObjectScanner {
                 AnnotationTarget reference = currentPathEntry.getAnnotationTarget();
 
                 // Get all fields *including* inherited.
-                Map<String, TypeResolver> properties = TypeResolver.getAllFields(context, currentType,
-                        currentClass,
-                        reference);
+                Map<String, TypeResolver> properties = getAllFields(currentPathEntry, currentType, currentClass, reference);
 
                 processClassAnnotations(currentSchema, currentClass);
 
@@ -280,6 +303,98 @@ public class OpenApiDataObjectScanner {
                                 currentPathEntry));
 
                 processInheritance(currentPathEntry);
+            } else {
+                discardResolvedFields(currentPathEntry);
+            }
+
+            resolveFieldsAhead(objectStack.size() - stackSize);
+        }
+    }
+
+    private Map<String, TypeResolver> getAllFields(DataObjectDeque.PathEntry entry, Type type, ClassInfo classInfo,
+            AnnotationTarget reference) {
+        ResolveFieldsTask task = resolvedFields != null ? resolvedFields.remove(entry) : null;
+
+        if (task != null) {
+            return task.join();
+        }
+
+        return TypeResolver.getAllFields(context, type, classInfo, reference);
+    }
+
+    private void discardResolvedFields(DataObjectDeque.PathEntry entry) {
+        ResolveFieldsTask task = resolvedFields != null ? resolvedFields.remove(entry) : null;
+
+        if (task != null) {
+            task.discard();
+        }
+    }
+
+    /**
+     * Start resolving the properties of the entries just pushed to the stack, so that
+     * the properties of sibling types are resolved concurrently while the graph is
+     * explored. The schemas are still built one entry at a time, in the same order as
+     * a sequential scan, so the result does not depend on the completion of the tasks.
+     * Resolving the properties only reads the index, the annotations and a snapshot of
+     * the active JSON views. Every task is joined or discarded before {@link #process()}
+     * returns.
+     *
+     * @param count number of entries pushed to the stack
+     */
+    private void resolveFieldsAhead(int count) {
+        if (resolvedFields == null || count < 1) {
+            return;
+        }
+
+        SchemaRegistry registry = context.getSchemaRegistry();
+        Set<Type> jsonViews = null;
+
+        for (DataObjectDeque.PathEntry entry : objectStack.peek(count)) {
+            if (!registry.hasSchema(entry.getClazzType(), context.getJsonViews(), null)) {
+                if (jsonViews == null) {
+                    jsonViews = Collections.unmodifiableSet(new LinkedHashSet<>(context.getJsonViews()));
+                }
+
+                Set<Type> views = jsonViews;
+                Type type = entry.getClazzType();
+                ClassInfo classInfo = entry.getClazz();
+                AnnotationTarget reference = entry.getAnnotationTarget();
+                ResolveFieldsTask task = new ResolveFieldsTask(
+                        () -> TypeResolver.getAllFields(context, views, type, classInfo, reference));
+                resolvedFields.put(entry, task);
+                ForkJoinPool.commonPool().execute(task);
+            }
+        }
+    }
+
+    /**
+     * Resolution of the properties of an entry, started ahead of the entry's processing.
+     * The resolution runs at most once: a task discarded before it starts does nothing.
+     */
+    private static final class ResolveFieldsTask extends RecursiveTask<Map<String, TypeResolver>> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Supplier<Map<String, TypeResolver>> resolution;
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        ResolveFieldsTask(Supplier<Map<String, TypeResolver>> resolution) {
+            this.resolution = resolution;
+        }
+
+        @Override
+        protected Map<String, TypeResolver> compute() {
+            return started.compareAndSet(false, true) ? resolution.get() : null;
+        }
+
+        /**
+         * Prevent the resolution from starting, or wait for it to complete when already
+         * started, so that no resolution outlives the scan. The result of a discarded
+         * resolution is not needed, neither is the exception it may have thrown: a
+         * sequential scan would not have resolved the properties at all.
+         */
+        void discard() {
+            if (!started.compareAndSet(false, true)) {
+                quietlyJoin();
             }
         }
     }
@@ -42,4 +42,12 @@ interface ScannerLogging extends BasicLogger {
     @Message(id = 4006, value = "Configured schema type %s is not a valid type signature")
     void configSchemaTypeInvalid(String typeSignature, @Cause Throwable cause);
 
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4007, value = "Skipping %s scanner, none of its annotations are present in the deployment.")
+    void skippingScanner(String scannerName);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4008, value = "Type schemas computed: %d, reused: %d")
+    void typeSchemaCacheStatistics(int misses, int hits);
+
 }
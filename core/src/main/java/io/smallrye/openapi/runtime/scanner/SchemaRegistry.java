@@ -26,6 +26,7 @@ import org.jboss.jandex.WildcardType;
 
 import io.smallrye.openapi.api.OpenApiConfig;
 import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.runtime.events.OpenApiSchemaRegistrationEvent;
 import io.smallrye.openapi.runtime.io.schema.SchemaConstant;
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
@@ -263,11 +264,15 @@ public class SchemaRegistry {
     }
 
     private Schema registerReference(TypeKey key) {
+        OpenApiSchemaRegistrationEvent event = new OpenApiSchemaRegistrationEvent();
+        event.begin();
+
         String name = deriveName(key, null);
         Schema schemaRef = new SchemaImpl().ref(name);
         registry.put(key, new GeneratedSchemaInfo(name, null, schemaRef));
         names.add(name);
 
+        event.complete(key.type, name, true, registry.size());
         return schemaRef;
     }
 
@@ -288,6 +293,9 @@ public class SchemaRegistry {
      * @return a reference to the newly registered {@link Schema}
      */
     private Schema register(TypeKey key, Schema schema, String schemaName) {
+        OpenApiSchemaRegistrationEvent event = new OpenApiSchemaRegistrationEvent();
+        event.begin();
+
         String name = deriveName(key, schemaName);
         Schema schemaRef = new SchemaImpl().ref(name);
         registry.put(key, new GeneratedSchemaInfo(name, schema, schemaRef));
@@ -295,6 +303,7 @@ public class SchemaRegistry {
 
         ModelUtil.components(oai).addSchema(name, schema);
 
+        event.complete(key.type, name, false, registry.size());
         return schemaRef;
     }
 
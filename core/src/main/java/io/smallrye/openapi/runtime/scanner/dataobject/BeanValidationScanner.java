@@ -1,25 +1,40 @@
 package io.smallrye.openapi.runtime.scanner.dataobject;
 
+import static org.eclipse.microprofile.openapi.models.media.Schema.SchemaType.ARRAY;
+import static org.eclipse.microprofile.openapi.models.media.Schema.SchemaType.INTEGER;
+import static org.eclipse.microprofile.openapi.models.media.Schema.SchemaType.NUMBER;
+import static org.eclipse.microprofile.openapi.models.media.Schema.SchemaType.OBJECT;
+import static org.eclipse.microprofile.openapi.models.media.Schema.SchemaType.STRING;
 import static org.jboss.jandex.DotName.createComponentized;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.MethodParameterInfo;
+import org.jboss.jandex.RecordComponentInfo;
 import org.jboss.jandex.Type;
 
 import io.smallrye.openapi.api.constants.JacksonConstants;
 import io.smallrye.openapi.api.constants.KotlinConstants;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
-import io.smallrye.openapi.runtime.util.JandexUtil;
 
 /**
  * @author Michael Edgar {@literal <michael@xlate.io>}
@@ -111,8 +126,92 @@ public class BeanValidationScanner {
         return constraintName;
     }
 
+    /**
+     * Constraints that may also be present via a composed (meta-) annotation
+     */
+    private static final Set<Constraint> COMPOSABLE_CONSTRAINTS = EnumSet.of(Constraint.NOT_NULL_KOTLIN,
+            Constraint.NULLABLE_KOTLIN,
+            Constraint.REQUIRED_JACKSON);
+
+    /**
+     * The constraints supported by the scanner. The order of the constants is the
+     * order in which the constraints are applied to a schema, which matters when more
+     * than one constraint sets the same schema attribute (e.g. {@code @Pattern} takes
+     * precedence over the pattern derived from {@code @Digits}).
+     */
+    enum Constraint {
+        DECIMAL_MAX((s, t, schema, key, h) -> s.decimalMax(t, schema), INTEGER, NUMBER, STRING),
+        DECIMAL_MIN((s, t, schema, key, h) -> s.decimalMin(t, schema), INTEGER, NUMBER, STRING),
+        PATTERN((s, t, schema, key, h) -> s.pattern(t, schema), STRING),
+        DIGITS((s, t, schema, key, h) -> s.digits(t, schema), INTEGER, NUMBER, STRING),
+        MAX((s, t, schema, key, h) -> s.max(t, schema), INTEGER, NUMBER),
+        MIN((s, t, schema, key, h) -> s.min(t, schema), INTEGER, NUMBER),
+        NEGATIVE((s, t, schema, key, h) -> s.negative(t, schema), INTEGER, NUMBER),
+        NEGATIVE_OR_ZERO((s, t, schema, key, h) -> s.negativeOrZero(t, schema), INTEGER, NUMBER),
+        NOT_BLANK(BeanValidationScanner::notBlank, STRING),
+        NOT_NULL((s, t, schema, key, h) -> s.notNull(t, key, h), SchemaType.values()),
+        NOT_NULL_KOTLIN((s, t, schema, key, h) -> s.notNullKotlin(t, key, h), SchemaType.values()),
+        NULLABLE_KOTLIN((s, t, schema, key, h) -> s.nullableKotlin(t, schema), SchemaType.values()),
+        REQUIRED_JACKSON((s, t, schema, key, h) -> s.requiredJackson(t, key, h), SchemaType.values()),
+        POSITIVE((s, t, schema, key, h) -> s.positive(t, schema), INTEGER, NUMBER),
+        POSITIVE_OR_ZERO((s, t, schema, key, h) -> s.positiveOrZero(t, schema), INTEGER, NUMBER),
+        SIZE((s, t, schema, key, h) -> s.size(t, schema), ARRAY, OBJECT, STRING),
+        NOT_EMPTY(BeanValidationScanner::notEmpty, ARRAY, OBJECT, STRING);
+
+        private final ConstraintHandler handler;
+        private final Set<SchemaType> schemaTypes;
+
+        Constraint(ConstraintHandler handler, SchemaType... schemaTypes) {
+            this.handler = handler;
+            this.schemaTypes = EnumSet.copyOf(Arrays.asList(schemaTypes));
+        }
+    }
+
+    @FunctionalInterface
+    interface ConstraintHandler {
+        void apply(BeanValidationScanner scanner, AnnotationTarget target, Schema schema, String propertyKey,
+                RequirementHandler handler);
+    }
+
+    /**
+     * Dispatch table from the name of each supported annotation (both the javax and
+     * the jakarta variants) to the constraint it declares.
+     */
+    static final Map<DotName, Constraint> CONSTRAINT_LOOKUP = new HashMap<>();
+
+    static {
+        mapConstraint(Constraint.DECIMAL_MAX, BV_DECIMAL_MAX);
+        mapConstraint(Constraint.DECIMAL_MIN, BV_DECIMAL_MIN);
+        mapConstraint(Constraint.DIGITS, BV_DIGITS);
+        mapConstraint(Constraint.MAX, BV_MAX);
+        mapConstraint(Constraint.MIN, BV_MIN);
+        mapConstraint(Constraint.NEGATIVE, BV_NEGATIVE);
+        mapConstraint(Constraint.NEGATIVE_OR_ZERO, BV_NEGATIVE_OR_ZERO);
+        mapConstraint(Constraint.NOT_BLANK, BV_NOT_BLANK);
+        mapConstraint(Constraint.NOT_EMPTY, BV_NOT_EMPTY);
+        mapConstraint(Constraint.NOT_NULL, BV_NOT_NULL);
+        mapConstraint(Constraint.PATTERN, BV_PATTERN);
+        mapConstraint(Constraint.POSITIVE, BV_POSITIVE);
+        mapConstraint(Constraint.POSITIVE_OR_ZERO, BV_POSITIVE_OR_ZERO);
+        mapConstraint(Constraint.SIZE, BV_SIZE);
+        mapConstraint(Constraint.REQUIRED_JACKSON, Collections.singletonList(JACKSON_JSONPROPERTY));
+        mapConstraint(Constraint.NOT_NULL_KOTLIN, Collections.singletonList(KOTLIN_NOT_NULL));
+        mapConstraint(Constraint.NULLABLE_KOTLIN, Collections.singletonList(KOTLIN_NULLABLE));
+    }
+
+    static void mapConstraint(Constraint constraint, List<DotName> annotationNames) {
+        annotationNames.forEach(name -> CONSTRAINT_LOOKUP.put(name, constraint));
+    }
+
     private final AnnotationScannerContext context;
 
+    /**
+     * Constraint tables for the members of each class encountered, built on
+     * first access to any of the class's fields, methods, method parameters, or
+     * record components.
+     */
+    private final Map<ClassInfo, Map<AnnotationTarget, TargetConstraints>> classConstraints = new ConcurrentHashMap<>();
+
     public BeanValidationScanner(AnnotationScannerContext context) {
         this.context = context;
     }
@@ -126,7 +225,13 @@ public class BeanValidationScanner {
      * @return true if annotations from the Bean Validation package are present, otherwise false.
      */
     public boolean hasConstraints(AnnotationTarget target) {
-        return context.annotations().hasAnnotation(target, CONSTRAINTS);
+        TargetConstraints constraints = constraints(target);
+
+        if (!constraints.isEmpty()) {
+            return true;
+        }
+
+        return constraints.composable && context.annotations().hasAnnotation(target, CONSTRAINTS);
     }
 
     /**
@@ -175,98 +280,13 @@ public class BeanValidationScanner {
             return;
         }
 
-        switch (schemaType) {
-            case ARRAY:
-                applyArrayConstraints(target, schema, propertyKey, handler);
-                break;
-            case BOOLEAN:
-                applyBooleanConstraints(target, schema, propertyKey, handler);
-                break;
-            case INTEGER:
-                applyNumberConstraints(target, schema, propertyKey, handler);
-                break;
-            case NUMBER:
-                applyNumberConstraints(target, schema, propertyKey, handler);
-                break;
-            case OBJECT:
-                applyObjectConstraints(target, schema, propertyKey, handler);
-                break;
-            case STRING:
-                applyStringConstraints(target, schema, propertyKey, handler);
-                break;
+        for (Constraint constraint : constraints(target).candidates()) {
+            if (constraint.schemaTypes.contains(schemaType)) {
+                constraint.handler.apply(this, target, schema, propertyKey, handler);
+            }
         }
     }
 
-    private void applyStringConstraints(AnnotationTarget target,
-            Schema schema,
-            String propertyKey,
-            RequirementHandler handler) {
-        decimalMax(target, schema);
-        decimalMin(target, schema);
-        pattern(target, schema);
-        digits(target, schema);
-        notBlank(target, schema, propertyKey, handler);
-        notNull(target, propertyKey, handler);
-        notNullKotlin(target, propertyKey, handler);
-        nullableKotlin(target, schema);
-        requiredJackson(target, propertyKey, handler);
-        sizeString(target, schema);
-        notEmptyString(target, schema, propertyKey, handler);
-    }
-
-    private void applyObjectConstraints(AnnotationTarget target,
-            Schema schema,
-            String propertyKey,
-            RequirementHandler handler) {
-        notNull(target, propertyKey, handler);
-        notNullKotlin(target, propertyKey, handler);
-        nullableKotlin(target, schema);
-        requiredJackson(target, propertyKey, handler);
-        sizeObject(target, schema);
-        notEmptyObject(target, schema, propertyKey, handler);
-    }
-
-    private void applyArrayConstraints(AnnotationTarget target,
-            Schema schema,
-            String propertyKey,
-            RequirementHandler handler) {
-        notNull(target, propertyKey, handler);
-        notNullKotlin(target, propertyKey, handler);
-        nullableKotlin(target, schema);
-        requiredJackson(target, propertyKey, handler);
-        sizeArray(target, schema);
-        notEmptyArray(target, schema, propertyKey, handler);
-    }
-
-    private void applyNumberConstraints(AnnotationTarget target,
-            Schema schema,
-            String propertyKey,
-            RequirementHandler handler) {
-        decimalMax(target, schema);
-        decimalMin(target, schema);
-        digits(target, schema);
-        max(target, schema);
-        min(target, schema);
-        negative(target, schema);
-        negativeOrZero(target, schema);
-        notNull(target, propertyKey, handler);
-        notNullKotlin(target, propertyKey, handler);
-        nullableKotlin(target, schema);
-        requiredJackson(target, propertyKey, handler);
-        positive(target, schema);
-        positiveOrZero(target, schema);
-    }
-
-    private void applyBooleanConstraints(AnnotationTarget target,
-            Schema schema,
-            String propertyKey,
-            RequirementHandler handler) {
-        notNull(target, propertyKey, handler);
-        notNullKotlin(target, propertyKey, handler);
-        nullableKotlin(target, schema);
-        requiredJackson(target, propertyKey, handler);
-    }
-
     void decimalMax(AnnotationTarget target, Schema schema) {
         AnnotationInstance constraint = getConstraint(target, BV_DECIMAL_MAX);
 
@@ -400,6 +420,20 @@ public class BeanValidationScanner {
         }
     }
 
+    void notEmpty(AnnotationTarget target, Schema schema, String propertyKey, RequirementHandler handler) {
+        switch (schema.getType()) {
+            case ARRAY:
+                notEmptyArray(target, schema, propertyKey, handler);
+                break;
+            case OBJECT:
+                notEmptyObject(target, schema, propertyKey, handler);
+                break;
+            default:
+                notEmptyString(target, schema, propertyKey, handler);
+                break;
+        }
+    }
+
     void notEmptyArray(AnnotationTarget target, Schema schema, String propertyKey, RequirementHandler handler) {
         AnnotationInstance constraint = getConstraint(target, BV_NOT_EMPTY);
 
@@ -449,13 +483,13 @@ public class BeanValidationScanner {
     }
 
     void notNullKotlin(AnnotationTarget target, String propertyKey, RequirementHandler handler) {
-        if (context.annotations().hasAnnotation(target, KOTLIN_NOT_NULL)) {
+        if (getAnnotation(target, KOTLIN_NOT_NULL) != null) {
             handler.setRequired(target, propertyKey);
         }
     }
 
     void nullableKotlin(AnnotationTarget target, Schema schema) {
-        if (context.annotations().hasAnnotation(target, KOTLIN_NULLABLE) && schema.getNullable() == null) {
+        if (getAnnotation(target, KOTLIN_NULLABLE) != null && schema.getNullable() == null) {
             schema.setNullable(Boolean.TRUE);
         }
     }
@@ -498,13 +532,28 @@ public class BeanValidationScanner {
     }
 
     void requiredJackson(AnnotationTarget target, String propertyKey, RequirementHandler handler) {
-        Boolean required = context.annotations().getAnnotationValue(target, JACKSON_JSONPROPERTY, "required");
+        AnnotationInstance jsonProperty = getAnnotation(target, JACKSON_JSONPROPERTY);
+        Boolean required = jsonProperty != null ? context.annotations().value(jsonProperty, "required") : null;
 
         if (Boolean.TRUE.equals(required)) {
             handler.setRequired(target, propertyKey);
         }
     }
 
+    void size(AnnotationTarget target, Schema schema) {
+        switch (schema.getType()) {
+            case ARRAY:
+                sizeArray(target, schema);
+                break;
+            case OBJECT:
+                sizeObject(target, schema);
+                break;
+            default:
+                sizeString(target, schema);
+                break;
+        }
+    }
+
     void sizeArray(AnnotationTarget target, Schema schema) {
         AnnotationInstance constraint = getConstraint(target, BV_SIZE);
 
@@ -583,29 +632,176 @@ public class BeanValidationScanner {
      *         {@link Default} group, otherwise null
      */
     AnnotationInstance getConstraint(AnnotationTarget target, List<DotName> annotationName) {
-        AnnotationInstance constraint = context.annotations().getAnnotation(target, annotationName);
+        return constraints(target).get(annotationName.get(0));
+    }
+
+    /**
+     * Retrieves a non-validation annotation (Jackson, Kotlin) from the target. These
+     * may also be present via a composed annotation, in which case the lookup falls
+     * back to a search of the target's meta-annotations.
+     */
+    AnnotationInstance getAnnotation(AnnotationTarget target, DotName annotationName) {
+        TargetConstraints constraints = constraints(target);
+        AnnotationInstance annotation = constraints.get(annotationName);
+
+        if (annotation == null && constraints.composable) {
+            annotation = context.annotations().getAnnotation(target, annotationName);
+        }
+
+        return annotation;
+    }
+
+    TargetConstraints constraints(AnnotationTarget target) {
+        if (target == null) {
+            // Parameters declared only via `@Parameter` have no annotated target
+            return new TargetConstraints();
+        }
+
+        ClassInfo declaringClass = declaringClass(target);
+
+        if (declaringClass != null) {
+            TargetConstraints constraints = classConstraints.computeIfAbsent(declaringClass, this::scanClass).get(target);
+
+            if (constraints != null) {
+                return constraints;
+            }
+        }
+
+        // Class-level targets, or a member obtained from another view of the index
+        TargetConstraints constraints = new TargetConstraints();
+
+        for (AnnotationInstance annotation : target.declaredAnnotations()) {
+            constraints.add(annotation);
+        }
+
+        return constraints;
+    }
+
+    /**
+     * Build the constraint tables for all members of the class, walking the
+     * annotations of each field, method (including its parameters), and record
+     * component once.
+     */
+    private Map<AnnotationTarget, TargetConstraints> scanClass(ClassInfo clazz) {
+        Map<AnnotationTarget, TargetConstraints> targets = new HashMap<>();
+
+        for (FieldInfo field : clazz.unsortedFields()) {
+            targets.put(field, new TargetConstraints());
+            addAll(targets, field.annotations());
+        }
+
+        for (MethodInfo method : clazz.unsortedMethods()) {
+            targets.put(method, new TargetConstraints());
+
+            for (short i = 0, m = (short) method.parametersCount(); i < m; i++) {
+                targets.put(MethodParameterInfo.create(method, i), new TargetConstraints());
+            }
+
+            addAll(targets, method.annotations());
+        }
 
-        if (constraint != null && JandexUtil.equals(constraint.target(), target)) {
-            AnnotationValue groupValue = constraint.value("groups");
+        for (RecordComponentInfo component : clazz.unsortedRecordComponents()) {
+            targets.put(component, new TargetConstraints());
+            addAll(targets, component.annotations());
+        }
+
+        return targets;
+    }
+
+    private static void addAll(Map<AnnotationTarget, TargetConstraints> targets, List<AnnotationInstance> annotations) {
+        for (AnnotationInstance annotation : annotations) {
+            AnnotationTarget target = annotation.target();
 
-            if (groupValue == null) {
-                return constraint;
+            if (target != null && target.kind() != AnnotationTarget.Kind.TYPE) {
+                TargetConstraints constraints = targets.get(target);
+
+                if (constraints != null) {
+                    constraints.add(annotation);
+                }
             }
+        }
+    }
 
-            Type[] groups = groupValue.asClassArray();
+    private static ClassInfo declaringClass(AnnotationTarget target) {
+        switch (target.kind()) {
+            case FIELD:
+                return target.asField().declaringClass();
+            case METHOD:
+                return target.asMethod().declaringClass();
+            case METHOD_PARAMETER:
+                return target.asMethodParameter().method().declaringClass();
+            case RECORD_COMPONENT:
+                return target.asRecordComponent().declaringClass();
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isDefaultGroup(AnnotationInstance constraint) {
+        AnnotationValue groupValue = constraint.value("groups");
+
+        if (groupValue == null) {
+            return true;
+        }
+
+        Type[] groups = groupValue.asClassArray();
+
+        if (groups.length == 0) {
+            return true;
+        }
 
-            if (groups.length == 0) {
-                return constraint;
+        for (Type group : groups) {
+            if (group.name().equals(BV_JAVAX_DEFAULT_GROUP) || group.name().equals(BV_JAKARTA_DEFAULT_GROUP)) {
+                return true;
             }
+        }
+
+        return false;
+    }
+
+    /**
+     * The constraints declared directly on a single annotation target.
+     */
+    class TargetConstraints {
+        private final Map<Constraint, AnnotationInstance> annotations = new EnumMap<>(Constraint.class);
+
+        /**
+         * Whether the target carries other annotations that may be composed of one
+         * of the supported annotations.
+         */
+        boolean composable;
 
-            for (Type group : groups) {
-                if (group.name().equals(BV_JAVAX_DEFAULT_GROUP) || group.name().equals(BV_JAKARTA_DEFAULT_GROUP)) {
-                    return constraint;
+        void add(AnnotationInstance annotation) {
+            Constraint constraint = CONSTRAINT_LOOKUP.get(annotation.name());
+
+            if (constraint == null) {
+                if (!composable) {
+                    composable = annotation.runtimeVisible()
+                            && context.getAugmentedIndex().getClassByName(annotation.name()) != null;
                 }
+            } else if (!annotations.containsKey(constraint) && isDefaultGroup(annotation)) {
+                annotations.put(constraint, annotation);
             }
         }
 
-        return null;
+        AnnotationInstance get(DotName annotationName) {
+            Constraint constraint = CONSTRAINT_LOOKUP.get(annotationName);
+            return constraint != null ? annotations.get(constraint) : null;
+        }
+
+        boolean isEmpty() {
+            return annotations.isEmpty();
+        }
+
+        Set<Constraint> candidates() {
+            if (!composable) {
+                return annotations.keySet();
+            }
+
+            Set<Constraint> candidates = EnumSet.copyOf(COMPOSABLE_CONSTRAINTS);
+            candidates.addAll(annotations.keySet());
+            return candidates;
+        }
     }
 
 }
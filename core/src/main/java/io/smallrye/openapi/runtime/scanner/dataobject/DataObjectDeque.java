@@ -1,8 +1,12 @@
 package io.smallrye.openapi.runtime.scanner.dataobject;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.jboss.jandex.AnnotationTarget;
@@ -20,6 +24,15 @@ public class DataObjectDeque {
     private final Deque<PathEntry> path = new ArrayDeque<>();
     private final AugmentedIndexView index;
 
+    /*
+     * The entry most recently popped and its enclosing entries, with an index of their
+     * classes for constant time cycle detection. Entries are explored depth first, so the
+     * enclosing entry of a popped entry is expected on the active path, and the entries
+     * above it are the finished siblings and their descendants, removed on the next pop.
+     */
+    private final Deque<PathEntry> activePath = new ArrayDeque<>();
+    private final Map<ClassInfo, ActiveTypes> activeTypes = new HashMap<>();
+
     public DataObjectDeque(AugmentedIndexView index) {
         this.index = index;
     }
@@ -50,6 +63,23 @@ public class DataObjectDeque {
         return path.peek();
     }
 
+    /**
+     * Look at the top elements of stack, but don't remove them.
+     *
+     * @param count the maximum number of elements
+     * @return the top elements of the stack, starting with the top element
+     */
+    public List<PathEntry> peek(int count) {
+        List<PathEntry> entries = new ArrayList<>(Math.min(count, path.size()));
+        Iterator<PathEntry> iterator = path.iterator();
+
+        while (entries.size() < count && iterator.hasNext()) {
+            entries.add(iterator.next());
+        }
+
+        return entries;
+    }
+
     /**
      * Push entry to stack. Does not perform cycle detection.
      *
@@ -67,7 +97,63 @@ public class DataObjectDeque {
      * @return the top element of the stack
      */
     public PathEntry pop() {
-        return path.pop();
+        PathEntry entry = path.pop();
+        activate(entry);
+        return entry;
+    }
+
+    private void activate(PathEntry entry) {
+        PathEntry enclosing = entry.getEnclosing();
+
+        while (!activePath.isEmpty() && activePath.peek() != enclosing) {
+            deactivate(activePath.pop());
+        }
+
+        if (activePath.isEmpty() && enclosing != null) {
+            // The enclosing entry was never popped (e.g. a stand-in root), start over from its path
+            activatePath(enclosing);
+        }
+
+        activePath.push(entry);
+        activeTypes.computeIfAbsent(entry.getClazz(), k -> new ActiveTypes()).add(entry.getClazzType());
+    }
+
+    private void activatePath(PathEntry entry) {
+        while (!activePath.isEmpty()) {
+            deactivate(activePath.pop());
+        }
+
+        Deque<PathEntry> entries = new ArrayDeque<>();
+
+        for (PathEntry e = entry; e != null; e = e.getEnclosing()) {
+            entries.push(e);
+        }
+
+        for (PathEntry e : entries) {
+            activePath.push(e);
+            activeTypes.computeIfAbsent(e.getClazz(), k -> new ActiveTypes()).add(e.getClazzType());
+        }
+    }
+
+    private void deactivate(PathEntry entry) {
+        ActiveTypes types = activeTypes.get(entry.getClazz());
+
+        if (types.remove(entry.getClazzType())) {
+            activeTypes.remove(entry.getClazz());
+        }
+    }
+
+    /**
+     * Determine whether an entry equal to the candidate is the parent entry or one of
+     * its enclosing entries, equivalent to {@link PathEntry#hasParent(PathEntry)}.
+     */
+    private boolean isCycle(PathEntry parentPathEntry, PathEntry candidate) {
+        if (activePath.peek() != parentPathEntry) {
+            activatePath(parentPathEntry);
+        }
+
+        ActiveTypes types = activeTypes.get(candidate.getClazz());
+        return types != null && types.matches(candidate.getClazzType());
     }
 
     /**
@@ -86,7 +172,7 @@ public class DataObjectDeque {
         validateInput(parentPathEntry, type, schema);
         PathEntry entry = leafNode(parentPathEntry, annotationTarget, type, schema);
         ClassInfo klazzInfo = entry.getClazz();
-        if (parentPathEntry.hasParent(entry)) {
+        if (isCycle(parentPathEntry, entry)) {
             // Cycle detected, don't push path.
             DataObjectLogging.logger.possibleCycle(klazzInfo);
             DataObjectLogging.logger.path(entry.toStringWithGraph());
@@ -243,6 +329,49 @@ public class DataObjectDeque {
         }
     }
 
+    /**
+     * The types of the entries on the active path for a single class. Entries of a
+     * parameterized type are considered equal when their type arguments are equal,
+     * an entry of a raw type is equal to any entry of the same class.
+     */
+    private static final class ActiveTypes {
+        private int count;
+        private int rawCount;
+        private final Map<List<Type>, Integer> arguments = new HashMap<>();
+
+        void add(Type type) {
+            count++;
+
+            if (type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+                arguments.merge(type.asParameterizedType().arguments(), 1, Integer::sum);
+            } else {
+                rawCount++;
+            }
+        }
+
+        /**
+         * @return true when no more entries of the class remain
+         */
+        boolean remove(Type type) {
+            count--;
+
+            if (type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+                arguments.computeIfPresent(type.asParameterizedType().arguments(), (k, v) -> v > 1 ? v - 1 : null);
+            } else {
+                rawCount--;
+            }
+
+            return count == 0;
+        }
+
+        boolean matches(Type type) {
+            if (type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+                return rawCount > 0 || arguments.containsKey(type.asParameterizedType().arguments());
+            }
+            return count > 0;
+        }
+    }
+
     private static void validateInput(Object... input) {
         for (Object t : input) {
             if (t == null)
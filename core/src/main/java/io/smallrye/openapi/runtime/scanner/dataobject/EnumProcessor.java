@@ -17,6 +17,7 @@ import java.util.stream.Collectors;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.Type;
 
@@ -31,8 +32,20 @@ public class EnumProcessor {
     private EnumProcessor() {
     }
 
+    /**
+     * Retrieve the values of the constants of an enum type, computed once per enum and
+     * scan.
+     *
+     * @param context scanning context
+     * @param enumType type containing Java Enum constants
+     * @return unmodifiable list of the enum's values
+     */
     public static List<Object> enumConstants(AnnotationScannerContext context, Type enumType) {
-        ClassInfo enumKlazz = context.getIndex().getClassByName(TypeUtil.getName(enumType));
+        return context.getEnumConstants(TypeUtil.getName(enumType), enumName -> computeEnumConstants(context, enumName));
+    }
+
+    private static List<Object> computeEnumConstants(AnnotationScannerContext context, DotName enumName) {
+        ClassInfo enumKlazz = context.getIndex().getClassByName(enumName);
         Function<FieldInfo, String> nameTranslator = nameTranslator(context, enumKlazz);
 
         return enumKlazz.annotationsMap()
@@ -2,11 +2,12 @@ package io.smallrye.openapi.runtime.scanner.dataobject;
 
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
-import java.util.LinkedHashSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.jboss.jandex.AnnotationInstance;
@@ -34,6 +35,8 @@ public class IgnoreResolver {
     private final AnnotationScannerContext context;
     private final AugmentedIndexView index;
     private final IgnoreAnnotationHandler[] ignoreHandlers;
+    private final Map<DotName, ClassIgnores> classIgnores = new ConcurrentHashMap<>();
+    private final Map<AnnotationTarget, Optional<Set<String>>> nestingIgnores = new ConcurrentHashMap<>();
 
     public IgnoreResolver(AnnotationScannerContext context) {
         this.context = context;
@@ -79,6 +82,96 @@ public class IgnoreResolver {
         return Visibility.UNSET;
     }
 
+    /**
+     * Retrieve the class-level ignore settings of a class, reading its annotations only
+     * the first time the class is requested.
+     *
+     * @param clazz the class, may be null
+     * @return the ignore settings of the class
+     */
+    ClassIgnores classIgnores(ClassInfo clazz) {
+        if (clazz == null) {
+            return ClassIgnores.NONE;
+        }
+        return classIgnores.computeIfAbsent(clazz.name(), name -> new ClassIgnores(
+                ignoredProperties(context.annotations().getAnnotation(clazz, JacksonConstants.JSON_IGNORE_PROPERTIES)),
+                isIgnoredType(clazz),
+                context.annotations().hasAnnotation(clazz, JaxbConstants.XML_TRANSIENT),
+                context.annotations().getAnnotationValue(clazz, JaxbConstants.XML_ACCESSOR_TYPE)));
+    }
+
+    private boolean isIgnoredType(ClassInfo clazz) {
+        AnnotationInstance annotationInstance = context.annotations().getAnnotation(clazz, JacksonConstants.JSON_IGNORE_TYPE);
+
+        if (annotationInstance != null && valueAsBooleanOrTrue(annotationInstance)) {
+            DataObjectLogging.logger.ignoringTypeAndAddingToSet(clazz.name());
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Retrieve the property names listed by {@code @JsonIgnoreProperties} on a field, method or
+     * parameter that nests a type, reading its annotations only the first time the target is requested.
+     */
+    private Set<String> nestingIgnoredProperties(AnnotationTarget nesting) {
+        switch (nesting.kind()) {
+            case FIELD:
+            case METHOD:
+            case METHOD_PARAMETER:
+            case RECORD_COMPONENT:
+                return nestingIgnores.computeIfAbsent(nesting, this::readNestingIgnoredProperties).orElse(null);
+            default:
+                // No stable identity for the remaining kinds of targets
+                return readNestingIgnoredProperties(nesting).orElse(null);
+        }
+    }
+
+    private Optional<Set<String>> readNestingIgnoredProperties(AnnotationTarget nesting) {
+        return Optional.ofNullable(
+                ignoredProperties(context.annotations().getAnnotation(nesting, JacksonConstants.JSON_IGNORE_PROPERTIES)));
+    }
+
+    private static Set<String> ignoredProperties(AnnotationInstance jipAnnotation) {
+        if (jipAnnotation == null || jipAnnotation.value() == null) {
+            return null; // NOSONAR - null indicates the absence of the annotation
+        }
+        return new HashSet<>(Arrays.asList(jipAnnotation.value().asStringArray()));
+    }
+
+    /**
+     * Ignore settings declared on a class, shared by all properties declared by the
+     * class or by its descendants.
+     */
+    static final class ClassIgnores {
+        static final ClassIgnores NONE = new ClassIgnores(null, false, false, null);
+
+        /**
+         * Names listed in {@code @JsonIgnoreProperties}, null when not present
+         */
+        final Set<String> ignoredProperties;
+        /**
+         * Whether the class is annotated with {@code @JsonIgnoreType}
+         */
+        final boolean ignoredType;
+        /**
+         * Whether the class is annotated with {@code @XmlTransient}
+         */
+        final boolean xmlTransient;
+        /**
+         * Value of {@code @XmlAccessorType}, null when not present
+         */
+        final String xmlAccessType;
+
+        ClassIgnores(Set<String> ignoredProperties, boolean ignoredType, boolean xmlTransient, String xmlAccessType) {
+            this.ignoredProperties = ignoredProperties;
+            this.ignoredType = ignoredType;
+            this.xmlTransient = xmlTransient;
+            this.xmlAccessType = xmlAccessType;
+        }
+    }
+
     /**
      * Handler for OAS hidden @{@link Schema}
      */
@@ -152,9 +245,8 @@ public class IgnoreResolver {
          * @return
          */
         private Visibility declaringClassIgnore(Map<String, TypeResolver> properties, AnnotationTarget target) {
-            AnnotationInstance declaringClassJIP = context.annotations().getAnnotation(TypeUtil.getDeclaringClass(target),
-                    getNames());
-            return shouldIgnoreTarget(declaringClassJIP, propertyName(properties, target));
+            Set<String> ignoredProperties = classIgnores(TypeUtil.getDeclaringClass(target)).ignoredProperties;
+            return shouldIgnoreTarget(ignoredProperties, propertyName(properties, target));
         }
 
         /**
@@ -182,8 +274,7 @@ public class IgnoreResolver {
             if (nesting == null) {
                 return Visibility.UNSET;
             }
-            AnnotationInstance nestedTypeJIP = context.annotations().getAnnotation(nesting, getNames());
-            return shouldIgnoreTarget(nestedTypeJIP, propertyName);
+            return shouldIgnoreTarget(nestingIgnoredProperties(nesting), propertyName);
         }
 
         private String propertyName(Map<String, TypeResolver> properties, AnnotationTarget target) {
@@ -194,12 +285,12 @@ public class IgnoreResolver {
             return TypeResolver.propertyName(properties, target.asMethod());
         }
 
-        private Visibility shouldIgnoreTarget(AnnotationInstance jipAnnotation, String targetName) {
-            if (jipAnnotation == null || jipAnnotation.value() == null) {
+        private Visibility shouldIgnoreTarget(Set<String> ignoredProperties, String targetName) {
+            if (ignoredProperties == null) {
                 return Visibility.UNSET;
             }
 
-            if (Arrays.asList(jipAnnotation.value().asStringArray()).contains(targetName)) {
+            if (ignoredProperties.contains(targetName)) {
                 return Visibility.IGNORED;
             } else {
                 return Visibility.EXPOSED;
@@ -214,8 +305,7 @@ public class IgnoreResolver {
         @Override
         public Visibility getDescendantVisibility(String propertyName, List<ClassInfo> descendants) {
             for (ClassInfo descendant : descendants) {
-                AnnotationInstance declaringClassJIP = context.annotations().getAnnotation(descendant, getNames());
-                Visibility visibility = shouldIgnoreTarget(declaringClassJIP, propertyName);
+                Visibility visibility = shouldIgnoreTarget(classIgnores(descendant).ignoredProperties, propertyName);
 
                 if (visibility != Visibility.UNSET) {
                     return visibility;
@@ -251,8 +341,6 @@ public class IgnoreResolver {
      * Handler for <code>com.fasterxml.jackson.annotation.JsonIgnoreType</code>
      */
     private final class JsonIgnoreTypeHandler implements IgnoreAnnotationHandler {
-        private final Set<DotName> ignoredTypes = new LinkedHashSet<>();
-
         @Override
         public Visibility shouldIgnore(Map<String, TypeResolver> properties, AnnotationTarget target,
                 AnnotationTarget reference) {
@@ -293,18 +381,10 @@ public class IgnoreResolver {
             // Find the real class implementation where the @JsonIgnoreType annotation may be.
             ClassInfo classInfo = index.getClass(classType);
 
-            if (ignoredTypes.contains(classInfo.name())) {
+            if (classIgnores(classInfo).ignoredType) {
                 DataObjectLogging.logger.ignoringType(classInfo.name());
                 return Visibility.IGNORED;
             }
-
-            AnnotationInstance annotationInstance = context.annotations().getAnnotation(classInfo, getNames());
-            if (annotationInstance != null && valueAsBooleanOrTrue(annotationInstance)) {
-                // Add the ignored field or class name
-                DataObjectLogging.logger.ignoringTypeAndAddingToSet(classInfo.name());
-                ignoredTypes.add(classInfo.name());
-                return Visibility.IGNORED;
-            }
             return Visibility.UNSET;
         }
 
@@ -373,7 +453,7 @@ public class IgnoreResolver {
 
             Visibility result;
 
-            if (hasXmlTransient(declaringClass)) {
+            if (classIgnores(declaringClass).xmlTransient) {
                 result = Visibility.IGNORED;
             } else if (isXmlExposed(target)) {
                 result = Visibility.EXPOSED;
@@ -393,7 +473,7 @@ public class IgnoreResolver {
         }
 
         Visibility getXmlVisibility(ClassInfo declaringClass, String accessTypeRequired, int flags) {
-            String xmlAccessType = context.annotations().getAnnotationValue(declaringClass, JaxbConstants.XML_ACCESSOR_TYPE);
+            String xmlAccessType = classIgnores(declaringClass).xmlAccessType;
 
             if (xmlAccessType == null) {
                 return Visibility.UNSET;
@@ -1,5 +1,7 @@
 package io.smallrye.openapi.runtime.scanner.dataobject;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
@@ -18,6 +20,7 @@ public class PropertyNamingStrategyFactory {
     private static final List<String> knownMethods = Arrays.asList(JSONB_TRANSLATE_NAME, JACKSON_TRANSLATE,
             JACKSON_TRANSLATE_ENUM);
     private static final Map<String, UnaryOperator<String>> STRATEGY_CACHE = new ConcurrentHashMap<>();
+    private static final int MEMO_MAX_SIZE = 4096;
 
     private PropertyNamingStrategyFactory() {
     }
@@ -31,15 +34,15 @@ public class PropertyNamingStrategyFactory {
             case JsonbConstants.IDENTITY:
                 return propertyName -> propertyName;
             case JsonbConstants.LOWER_CASE_WITH_DASHES:
-                return new ConfigurableNamingStrategy(Character::toLowerCase, '-');
+                return new MemoizedNamingStrategy(new ConfigurableNamingStrategy(Character::toLowerCase, '-'));
             case JsonbConstants.LOWER_CASE_WITH_UNDERSCORES:
-                return new ConfigurableNamingStrategy(Character::toLowerCase, '_');
+                return new MemoizedNamingStrategy(new ConfigurableNamingStrategy(Character::toLowerCase, '_'));
             case JsonbConstants.UPPER_CAMEL_CASE:
-                return camelCaseStrategy();
+                return new MemoizedNamingStrategy(camelCaseStrategy());
             case JsonbConstants.UPPER_CAMEL_CASE_WITH_SPACES:
                 final UnaryOperator<String> camelCase = camelCaseStrategy();
                 final UnaryOperator<String> space = new ConfigurableNamingStrategy(UnaryOperator.identity(), ' ');
-                return propertyName -> camelCase.apply(space.apply(propertyName));
+                return new MemoizedNamingStrategy(propertyName -> camelCase.apply(space.apply(propertyName)));
             case JsonbConstants.CASE_INSENSITIVE:
                 return propertyName -> propertyName;
             default:
@@ -53,18 +56,27 @@ public class PropertyNamingStrategyFactory {
                     throw DataObjectMessages.msg.invalidPropertyNamingStrategyWithCause(configValue, e);
                 }
 
-                return Arrays.stream(strategyType.getMethods())
+                Method translateMethod = Arrays.stream(strategyType.getMethods())
                         .filter(PropertyNamingStrategyFactory::isStringUnaryOperator)
                         .filter(method -> knownMethods.contains(method.getName()))
-                        .map(method -> (UnaryOperator<String>) propertyName -> {
-                            try {
-                                return (String) method.invoke(strategy, propertyName);
-                            } catch (Exception e) {
-                                throw DataObjectMessages.msg.invalidPropertyNamingStrategyWithCause(configValue, e);
-                            }
-                        })
                         .findFirst()
                         .orElseThrow(() -> DataObjectMessages.msg.invalidPropertyNamingStrategy(configValue));
+
+                final MethodHandle translate;
+
+                try {
+                    translate = MethodHandles.publicLookup().unreflect(translateMethod).bindTo(strategy);
+                } catch (Exception e) {
+                    throw DataObjectMessages.msg.invalidPropertyNamingStrategyWithCause(configValue, e);
+                }
+
+                return new MemoizedNamingStrategy(propertyName -> {
+                    try {
+                        return (String) translate.invokeExact(propertyName);
+                    } catch (Throwable t) { // NOSONAR - invokeExact declares Throwable
+                        throw DataObjectMessages.msg.invalidPropertyNamingStrategyWithCause(configValue, t);
+                    }
+                });
         }
     }
 
@@ -84,6 +96,38 @@ public class PropertyNamingStrategyFactory {
                 + (propertyName.length() > 1 ? propertyName.substring(1) : "");
     }
 
+    /**
+     * Remembers the names translated by a strategy, which is shared by all scans and
+     * called for every property of every data object. The memo is cleared once it
+     * holds {@value #MEMO_MAX_SIZE} names to bound its size.
+     */
+    private static class MemoizedNamingStrategy implements UnaryOperator<String> {
+        private final UnaryOperator<String> delegate;
+        private final Map<String, String> memo = new ConcurrentHashMap<>();
+
+        MemoizedNamingStrategy(UnaryOperator<String> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String apply(String propertyName) {
+            String translated = memo.get(propertyName);
+
+            if (translated == null) {
+                translated = delegate.apply(propertyName);
+
+                if (translated != null) {
+                    if (memo.size() >= MEMO_MAX_SIZE) {
+                        memo.clear();
+                    }
+                    memo.put(propertyName, translated);
+                }
+            }
+
+            return translated;
+        }
+    }
+
     private static class ConfigurableNamingStrategy implements UnaryOperator<String> {
         private final Function<Character, Character> converter;
         private final char separator;
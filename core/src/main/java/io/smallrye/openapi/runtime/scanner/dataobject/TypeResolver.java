@@ -488,6 +488,15 @@ public class TypeResolver {
 
     public static Map<String, TypeResolver> getAllFields(AnnotationScannerContext context, Type leaf,
             ClassInfo leafKlazz, AnnotationTarget reference) {
+        return getAllFields(context, context.getJsonViews(), leaf, leafKlazz, reference);
+    }
+
+    /**
+     * Resolve the properties of a type as visible in the given JSON views, which may be a
+     * snapshot of the views of the context when the properties are resolved on another thread.
+     */
+    public static Map<String, TypeResolver> getAllFields(AnnotationScannerContext context, Set<Type> jsonViews, Type leaf,
+            ClassInfo leafKlazz, AnnotationTarget reference) {
         final AugmentedIndexView index = context.getAugmentedIndex();
         Map<ClassInfo, Type> chain = index.inheritanceChain(leafKlazz, leaf);
         Map<String, TypeResolver> properties = new LinkedHashMap<>();
@@ -518,13 +527,13 @@ public class TypeResolver {
                     .stream()
                     .filter(TypeResolver::acceptField)
                     .filter(field -> field.name().chars().allMatch(Character::isJavaIdentifierPart))
-                    .forEach(field -> scanField(context, properties, field, stack, reference, descendants));
+                    .forEach(field -> scanField(context, jsonViews, properties, field, stack, reference, descendants));
 
             methods(context, currentClass)
                     .stream()
                     .filter(TypeResolver::acceptMethod)
                     .filter(method -> method.name().chars().allMatch(Character::isJavaIdentifierPart))
-                    .forEach(method -> scanMethod(context, properties, method, stack, reference, descendants));
+                    .forEach(method -> scanMethod(context, jsonViews, properties, method, stack, reference, descendants));
 
             index.interfaces(currentClass)
                     .stream()
@@ -533,7 +542,7 @@ public class TypeResolver {
                     .filter(Objects::nonNull)
                     .flatMap(clazz -> methods(context, clazz).stream())
                     .filter(method -> method.name().chars().allMatch(Character::isJavaIdentifierPart))
-                    .forEach(method -> scanMethod(context, properties, method, stack, reference, descendants));
+                    .forEach(method -> scanMethod(context, jsonViews, properties, method, stack, reference, descendants));
 
             descendants.add(currentClass);
         }
@@ -579,9 +588,8 @@ public class TypeResolver {
         return method == null || !Modifier.isPublic(method.flags());
     }
 
-    private static boolean isViewable(AnnotationScannerContext context, AnnotationTarget propertySource) {
-        Set<Type> activeViews = context.getJsonViews();
-
+    private static boolean isViewable(AnnotationScannerContext context, Set<Type> activeViews,
+            AnnotationTarget propertySource) {
         if (activeViews.isEmpty()) {
             return true;
         }
@@ -600,12 +608,14 @@ public class TypeResolver {
      * via the <code>@Schema</code> annotation overrides configuration to ignore the same property
      * higher up the class/interface hierarchy.
      *
+     * @param jsonViews active JSON views
      * @param target the field or method to be checked for ignoring or exposure in the API
      * @param reference an annotated member (field or method) that referenced the type of target's declaring class
      * @param descendants list of classes that descend from the class containing target
      * @param properties map of other known properties that are peers of the target
      */
-    private void processVisibility(AnnotationScannerContext context, AnnotationTarget target, AnnotationTarget reference,
+    private void processVisibility(AnnotationScannerContext context, Set<Type> jsonViews, AnnotationTarget target,
+            AnnotationTarget reference,
             List<ClassInfo> descendants,
             Map<String, TypeResolver> properties) {
         if (this.exposed || this.ignored) {
@@ -619,7 +629,7 @@ public class TypeResolver {
             return;
         }
 
-        switch (getVisibility(context, target, reference, descendants, properties)) {
+        switch (getVisibility(context, jsonViews, target, reference, descendants, properties)) {
             case EXPOSED:
                 this.exposed = true;
                 break;
@@ -671,17 +681,19 @@ public class TypeResolver {
     /**
      * Retrieve any property visibility configured on the target or overridden by descendant classes.
      *
+     * @param jsonViews active JSON views
      * @param target the field or method to be checked for ignoring or exposure in the API
      * @param reference an annotated member (field or method) that referenced the type of target's declaring class
      * @param descendants list of classes that descend from the class containing target
      * @param properties map of other known properties that are peers of the target
      */
-    private IgnoreResolver.Visibility getVisibility(AnnotationScannerContext context, AnnotationTarget target,
+    private IgnoreResolver.Visibility getVisibility(AnnotationScannerContext context, Set<Type> jsonViews,
+            AnnotationTarget target,
             AnnotationTarget reference,
             List<ClassInfo> descendants,
             Map<String, TypeResolver> properties) {
 
-        if (!isViewable(context, target)) {
+        if (!isViewable(context, jsonViews, target)) {
             return IgnoreResolver.Visibility.IGNORED;
         }
 
@@ -726,13 +738,15 @@ public class TypeResolver {
      * operate on the field which is in a super class.
      *
      * @param context current scanner context
+     * @param jsonViews active JSON views
      * @param properties current map of properties discovered
      * @param field the field to scan
      * @param stack type resolution stack for parameterized types
      * @param reference an annotated member (field or method) that referenced the type of field's declaring class
      * @param descendants list of classes that descend from the class containing field
      */
-    private static void scanField(AnnotationScannerContext context, Map<String, TypeResolver> properties, FieldInfo field,
+    private static void scanField(AnnotationScannerContext context, Set<Type> jsonViews, Map<String, TypeResolver> properties,
+            FieldInfo field,
             Deque<Map<String, Type>> stack,
             AnnotationTarget reference,
             List<ClassInfo> descendants) {
@@ -744,7 +758,7 @@ public class TypeResolver {
 
         if (field.hasAnnotation(JacksonConstants.JSON_UNWRAPPED) && fieldClass != null) {
             unwrapped = true;
-            properties.putAll(unwrapProperties(context, field, fieldType, fieldClass));
+            properties.putAll(unwrapProperties(context, jsonViews, field, fieldType, fieldClass));
         } else {
             unwrapped = false;
         }
@@ -774,17 +788,18 @@ public class TypeResolver {
             // Ignored for getters/setters
             resolver.ignored = true;
         } else {
-            resolver.processVisibility(context, field, reference, descendants, properties);
+            resolver.processVisibility(context, jsonViews, field, reference, descendants, properties);
             resolver.processAccess(field);
         }
     }
 
     private static Map<String, TypeResolver> unwrapProperties(AnnotationScannerContext context,
+            Set<Type> jsonViews,
             AnnotationTarget member,
             Type memberType,
             ClassInfo memberClass) {
 
-        Map<String, TypeResolver> unwrappedProperties = getAllFields(context, memberType, memberClass, member);
+        Map<String, TypeResolver> unwrappedProperties = getAllFields(context, jsonViews, memberType, memberClass, member);
         AnnotationInstance jsonUnwrapped = context.annotations().getAnnotation(member, JacksonConstants.JSON_UNWRAPPED);
         String unwrapPrefix = context.annotations().value(jsonUnwrapped, "prefix");
         String unwrapSuffix = context.annotations().value(jsonUnwrapped, "suffix");
@@ -820,13 +835,15 @@ public class TypeResolver {
      * conventions for getter or setter methods.
      *
      * @param context current scanner context
+     * @param jsonViews active JSON views
      * @param properties current map of properties discovered
      * @param method the method to scan
      * @param stack type resolution stack for parameterized types
      * @param reference an annotated member (field or method) that referenced the type of method's declaring class
      * @param descendants list of classes that descend from the class containing field
      */
-    private static void scanMethod(AnnotationScannerContext context, Map<String, TypeResolver> properties, MethodInfo method,
+    private static void scanMethod(AnnotationScannerContext context, Set<Type> jsonViews, Map<String, TypeResolver> properties,
+            MethodInfo method,
             Deque<Map<String, Type>> stack,
             AnnotationTarget reference,
             List<ClassInfo> descendants) {
@@ -842,7 +859,7 @@ public class TypeResolver {
         if (propertyType != null) {
             TypeResolver resolver = updateTypeResolvers(context, properties, stack, method, propertyType);
             if (resolver != null) {
-                resolver.processVisibility(context, method, reference, descendants, properties);
+                resolver.processVisibility(context, jsonViews, method, reference, descendants, properties);
                 resolver.processAccess(method);
             }
         }
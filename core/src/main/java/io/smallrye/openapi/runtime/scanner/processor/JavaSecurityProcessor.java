@@ -2,9 +2,13 @@ package io.smallrye.openapi.runtime.scanner.processor;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -14,6 +18,8 @@ import org.eclipse.microprofile.openapi.models.security.OAuthFlow;
 import org.eclipse.microprofile.openapi.models.security.OAuthFlows;
 import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
 import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.MethodInfo;
 
 import io.smallrye.openapi.api.constants.SecurityConstants;
@@ -28,8 +34,11 @@ import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
  */
 public class JavaSecurityProcessor {
 
+    private static final String[] NO_ROLES = new String[0];
+
     public void addRolesAllowedToScopes(String[] roles) {
         resourceRolesAllowed = roles;
+        currentClass = null;
         addScopes(roles);
     }
 
@@ -37,14 +46,34 @@ public class JavaSecurityProcessor {
         addScopes(roles);
     }
 
+    /**
+     * Apply the class-level <code>@DeclareRoles</code> and <code>@RolesAllowed</code> of
+     * a resource class. The annotations of the class and of its methods are read once,
+     * regardless of the number of times the class is processed.
+     *
+     * @param resourceClass the resource class
+     */
+    public void processClassSecurity(ClassInfo resourceClass) {
+        ClassSecurity security = classSecurity.computeIfAbsent(resourceClass.name(), name -> new ClassSecurity(
+                context.annotations().getAnnotationValue(resourceClass, SecurityConstants.DECLARE_ROLES),
+                context.annotations().getAnnotationValue(resourceClass, SecurityConstants.ROLES_ALLOWED)));
+
+        addDeclaredRolesToScopes(security.declaredRoles);
+        addRolesAllowedToScopes(security.rolesAllowed);
+        currentClass = security;
+    }
+
     public void processSecurityRoles(MethodInfo method, Operation operation) {
         processSecurityRolesForMethodOperation(method, operation);
     }
 
     private final AnnotationScannerContext context;
+    private final Map<DotName, ClassSecurity> classSecurity = new HashMap<>();
+    private final Map<OAuthFlow, Set<String>> flowScopes = new IdentityHashMap<>();
     private String currentSecurityScheme;
     private List<OAuthFlow> currentFlows;
     private String[] resourceRolesAllowed;
+    private ClassSecurity currentClass;
 
     public JavaSecurityProcessor(AnnotationScannerContext context) {
         this.context = context;
@@ -54,6 +83,7 @@ public class JavaSecurityProcessor {
         currentSecurityScheme = null;
         currentFlows = null;
         resourceRolesAllowed = null;
+        currentClass = null;
         checkSecurityScheme(openApi);
     }
 
@@ -61,7 +91,8 @@ public class JavaSecurityProcessor {
      * Adds the array of roles as scopes to each of the OAuth2 flows stored previously.
      * The flows are those declared by the application in components/securitySchemes
      * using annotations where the scopes were not defined. The description of the scope
-     * will be set to the role name plus the string " role".
+     * will be set to the role name plus the string " role". Roles already added to a
+     * flow are skipped.
      *
      * @param roles array of roles from either <code>@DeclareRoles</code> or
      *        <code>@RolesAllowed</code>
@@ -71,12 +102,18 @@ public class JavaSecurityProcessor {
             return;
         }
 
-        this.currentFlows.forEach(flow -> {
+        for (OAuthFlow flow : this.currentFlows) {
+            Set<String> added = flowScopes.computeIfAbsent(flow, f -> new HashSet<>());
+
             if (flow.getScopes() == null) {
                 flow.setScopes(new LinkedHashMap<>());
             }
-            Arrays.stream(roles).forEach(role -> flow.addScope(role, role + " role"));
-        });
+            for (String role : roles) {
+                if (added.add(role)) {
+                    flow.addScope(role, role + " role");
+                }
+            }
+        }
     }
 
     /**
@@ -98,22 +135,36 @@ public class JavaSecurityProcessor {
      */
     private void processSecurityRolesForMethodOperation(MethodInfo method, Operation operation) {
         if (this.currentSecurityScheme != null) {
-            String[] rolesAllowed = context.annotations().getAnnotationValue(method, SecurityConstants.ROLES_ALLOWED);
-
-            if (rolesAllowed != null) {
-                addScopes(rolesAllowed);
-                addRolesAllowed(operation, rolesAllowed);
-            } else if (this.resourceRolesAllowed != null) {
-                boolean denyAll = context.annotations().getAnnotation(method, SecurityConstants.DENY_ALL) != null;
-                boolean permitAll = context.annotations().getAnnotation(method, SecurityConstants.PERMIT_ALL) != null;
-
-                if (denyAll) {
-                    addRolesAllowed(operation, new String[0]);
-                } else if (!permitAll) {
-                    addRolesAllowed(operation, this.resourceRolesAllowed);
-                }
+            MethodSecurity security = currentClass != null
+                    ? currentClass.methods.computeIfAbsent(method, this::methodSecurity)
+                    : methodSecurity(method);
+
+            if (security.methodRoles) {
+                addScopes(security.rolesAllowed);
+            }
+            if (security.rolesAllowed != null) {
+                addRolesAllowed(operation, security.rolesAllowed);
+            }
+        }
+    }
+
+    private MethodSecurity methodSecurity(MethodInfo method) {
+        String[] rolesAllowed = context.annotations().getAnnotationValue(method, SecurityConstants.ROLES_ALLOWED);
+
+        if (rolesAllowed != null) {
+            return new MethodSecurity(rolesAllowed, true);
+        }
+
+        if (this.resourceRolesAllowed != null) {
+            if (context.annotations().getAnnotation(method, SecurityConstants.DENY_ALL) != null) {
+                return new MethodSecurity(NO_ROLES, false);
+            }
+            if (context.annotations().getAnnotation(method, SecurityConstants.PERMIT_ALL) == null) {
+                return new MethodSecurity(this.resourceRolesAllowed, false);
             }
         }
+
+        return MethodSecurity.NONE;
     }
 
     /**
@@ -219,4 +270,33 @@ public class JavaSecurityProcessor {
             this.currentFlows.add(flow);
         }
     }
+
+    /**
+     * The security annotations of a resource class and of the methods scanned for it.
+     */
+    private static final class ClassSecurity {
+        final String[] declaredRoles;
+        final String[] rolesAllowed;
+        final Map<MethodInfo, MethodSecurity> methods = new HashMap<>();
+
+        ClassSecurity(String[] declaredRoles, String[] rolesAllowed) {
+            this.declaredRoles = declaredRoles;
+            this.rolesAllowed = rolesAllowed;
+        }
+    }
+
+    /**
+     * The roles required to invoke a method and whether they are declared by the method itself.
+     */
+    private static final class MethodSecurity {
+        static final MethodSecurity NONE = new MethodSecurity(null, false);
+
+        final String[] rolesAllowed;
+        final boolean methodRoles;
+
+        MethodSecurity(String[] rolesAllowed, boolean methodRoles) {
+            this.rolesAllowed = rolesAllowed;
+            this.methodRoles = methodRoles;
+        }
+    }
 }
@@ -18,7 +18,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -76,12 +75,12 @@ public abstract class AbstractParameterProcessor {
 
     protected static final String APPLICATION_FORM_URLENCODED = "application/x-www-form-urlencoded";
 
-    protected final AnnotationScannerContext scannerContext;
-    protected final String contextPath;
-    protected final IndexView index;
-    protected final Function<AnnotationInstance, Parameter> readerFunction;
-    protected final List<AnnotationScannerExtension> extensions;
-    protected final Optional<BeanValidationScanner> beanValidationScanner;
+    protected AnnotationScannerContext scannerContext;
+    protected String contextPath;
+    protected IndexView index;
+    protected Function<AnnotationInstance, Parameter> readerFunction;
+    protected List<AnnotationScannerExtension> extensions;
+    protected Optional<BeanValidationScanner> beanValidationScanner;
 
     /**
      * Collection of parameters scanned at the current level. This map contains
@@ -112,6 +111,12 @@ public abstract class AbstractParameterProcessor {
     private Set<String> processedMatrixSegments = new HashSet<>();
     private List<Parameter> preferredOrder;
 
+    /**
+     * Set while a method is being processed by a processor obtained from
+     * {@link #processReusable}, nested requests during the scan use a new instance.
+     */
+    private boolean active;
+
     /**
      * Used for collecting and merging any scanned {@link Parameter} annotations
      * with the framework-specific parameter annotations. After scanning, this object may
@@ -160,26 +165,37 @@ public abstract class AbstractParameterProcessor {
         final In location;
         final Style style;
         final String ref;
+        private final int hash;
 
         public ParameterContextKey(String name, In location, Style style) {
-            this.name = name;
-            this.location = location;
-            this.style = style;
-            this.ref = null;
+            this(name, location, style, null);
         }
 
         public ParameterContextKey(Parameter oaiParam) {
-            this.name = oaiParam.getName();
-            this.location = oaiParam.getIn();
-            this.style = styleOf(oaiParam);
-            this.ref = oaiParam.getRef();
+            this(oaiParam.getName(), oaiParam.getIn(), styleOf(oaiParam), oaiParam.getRef());
         }
 
         public ParameterContextKey(ParameterContext context) {
-            this.name = context.name;
-            this.location = context.location;
-            this.style = context.style;
-            this.ref = context.oaiParam != null ? context.oaiParam.getRef() : null;
+            this(context.name, context.location, context.style, context.oaiParam != null ? context.oaiParam.getRef() : null);
+        }
+
+        private ParameterContextKey(String name, In location, Style style, String ref) {
+            this.name = name;
+            this.location = location;
+            this.style = style;
+            this.ref = ref;
+            this.hash = isNull() ? System.identityHashCode(this) : hash(name, location, style, ref);
+        }
+
+        /**
+         * Hash of the key's attributes, using the enum ordinals (stable across runs)
+         * and without the array allocated by {@link Objects#hash(Object...)}.
+         */
+        private static int hash(String name, In location, Style style, String ref) {
+            int result = Objects.hashCode(name);
+            result = 31 * result + (location != null ? location.ordinal() + 1 : 0);
+            result = 31 * result + (style != null ? style.ordinal() + 1 : 0);
+            return 31 * result + Objects.hashCode(ref);
         }
 
         @Override
@@ -205,7 +221,7 @@ public abstract class AbstractParameterProcessor {
 
         @Override
         public int hashCode() {
-            return isNull() ? super.hashCode() : Objects.hash(name, location, style, ref);
+            return hash;
         }
 
         @Override
@@ -218,10 +234,23 @@ public abstract class AbstractParameterProcessor {
         }
     }
 
+    /**
+     * Create a processor to be bound to a scan by {@link #processReusable}.
+     */
+    protected AbstractParameterProcessor() {
+    }
+
     protected AbstractParameterProcessor(AnnotationScannerContext scannerContext,
             String contextPath,
             Function<AnnotationInstance, Parameter> reader,
             List<AnnotationScannerExtension> extensions) {
+        bind(scannerContext, contextPath, reader, extensions);
+    }
+
+    private void bind(AnnotationScannerContext scannerContext,
+            String contextPath,
+            Function<AnnotationInstance, Parameter> reader,
+            List<AnnotationScannerExtension> extensions) {
         this.scannerContext = scannerContext;
         this.contextPath = contextPath;
         this.index = scannerContext.getIndex();
@@ -230,12 +259,73 @@ public abstract class AbstractParameterProcessor {
         this.beanValidationScanner = scannerContext.getBeanValidationScanner();
     }
 
+    /**
+     * Process the parameters of a resource method with the scan's processor, creating
+     * one when the scan has none yet or its processor is already in use. The processor's
+     * collections are re-used for each method, after which they are cleared and the
+     * processor is unbound from the method. The processor is held by the scanner context
+     * and no longer referenced once the scan completes.
+     *
+     * @param <P> type of the framework's processor
+     * @param type class of the framework's processor
+     * @param factory creates an unbound processor
+     * @param scannerContext the scanning context
+     * @param contextPath context path for the resource class and method
+     * @param reader callback method for a function producing {@link Parameter} from a
+     *        {@link org.eclipse.microprofile.openapi.annotations.parameters.Parameter}
+     * @param extensions scanner extensions
+     * @param resourceClass the class info
+     * @param resourceMethod the resource method
+     * @return scanned parameters and modified path contained in a {@link ResourceParameters} object
+     */
+    protected static <P extends AbstractParameterProcessor> ResourceParameters processReusable(Class<P> type,
+            Supplier<P> factory,
+            AnnotationScannerContext scannerContext,
+            String contextPath,
+            Function<AnnotationInstance, Parameter> reader,
+            List<AnnotationScannerExtension> extensions,
+            ClassInfo resourceClass,
+            MethodInfo resourceMethod) {
+
+        AbstractParameterProcessor processor = scannerContext.getParameterProcessor(type, factory);
+
+        if (processor.active) {
+            processor = factory.get();
+        }
+
+        processor.bind(scannerContext, contextPath, reader, extensions);
+        processor.active = true;
+
+        try {
+            return processor.process(resourceClass, resourceMethod);
+        } finally {
+            processor.release();
+        }
+    }
+
     protected void reset() {
         params.clear();
         formParams.clear();
         matrixParams.clear();
     }
 
+    /**
+     * Clear all state of the processed method and unbind the processor from the scan.
+     */
+    private void release() {
+        reset();
+        formMediaType = null;
+        processedMatrixSegments.clear();
+        preferredOrder = null;
+        scannerContext = null;
+        contextPath = null;
+        index = null;
+        readerFunction = null;
+        extensions = null;
+        beanValidationScanner = null;
+        active = false;
+    }
+
     protected ResourceParameters process(ClassInfo resourceClass, MethodInfo resourceMethod) {
 
         ResourceParameters parameters = new ResourceParameters();
@@ -321,33 +411,23 @@ public abstract class AbstractParameterProcessor {
      * @return the path for the target
      */
     protected String generatePath(AnnotationTarget target, List<Parameter> parameters) {
-        final StringBuilder path = new StringBuilder(pathOf(target));
+        PathTemplate template = scannerContext.getPathTemplate(pathOf(target), getTemplateParameterPattern());
+        final StringBuilder path = new StringBuilder(template.getPath());
 
         if (path.length() > 0) {
             path.insert(0, '/');
         }
 
         /*
-         * Search for path template variables where a regular expression
-         * is specified, extract the pattern and apply to the parameter's schema
-         * if no pattern is otherwise specified and the parameter is a string.
+         * For path template variables where a regular expression is specified,
+         * apply the pattern to the parameter's schema if no pattern is otherwise
+         * specified and the parameter is a string.
          */
-        Matcher templateMatcher = getTemplateParameterPattern().matcher(path);
-
-        while (templateMatcher.find()) {
-            String variableName = templateMatcher.group(1).trim();
-            String variablePattern = templateMatcher.group(2).trim();
-
+        for (PathTemplate.ConstrainedVariable variable : template.getConstrainedVariables()) {
             parameters.stream()
-                    .filter(p -> samePathParameter(p, variableName))
+                    .filter(p -> samePathParameter(p, variable.getName()))
                     .filter(this::templateParameterPatternEligible)
-                    .forEach(p -> p.getSchema().setPattern(variablePattern));
-
-            String replacement = templateMatcher.replaceFirst('{' + variableName + '}');
-            path.setLength(0);
-            path.append(replacement);
-
-            templateMatcher = getTemplateParameterPattern().matcher(path);
+                    .forEach(p -> p.getSchema().setPattern(variable.getPattern()));
         }
 
         parameters.stream()
@@ -381,6 +461,13 @@ public abstract class AbstractParameterProcessor {
         return path.toString();
     }
 
+    /**
+     * Pattern to describe a path template parameter with a regular expression pattern restriction.
+     * Group 1 must capture the name of the parameter and group 2 the regular expression. The
+     * returned instance is used to cache parsed templates and should be a constant.
+     *
+     * @return the framework's template parameter pattern
+     */
     protected abstract Pattern getTemplateParameterPattern();
 
     boolean samePathParameter(Parameter param, String name) {
@@ -900,20 +987,17 @@ public abstract class AbstractParameterProcessor {
      * @param resourcePath resource path/URL
      * @return true if the paramName is in the resourcePath, false otherwise.
      */
-    static boolean parameterInPath(String paramName, Style paramStyle, String resourcePath) {
+    boolean parameterInPath(String paramName, Style paramStyle, String resourcePath) {
         if (paramName == null || resourcePath == null) {
             return true;
         }
 
-        final String regex;
-
         if (Style.MATRIX.equals(paramStyle)) {
-            regex = String.format("(?:\\{[ \\t]*|^|/?)\\Q%s\\E(?:[ \\t]*(?:}|:)|/?|$)", paramName);
-        } else {
-            regex = String.format("\\{[ \\t]*\\Q%s\\E[ \\t]*(?:}|:)", paramName);
+            // Matrix parameters may be named by any (partial) segment of the path
+            return resourcePath.contains(paramName);
         }
 
-        return Pattern.compile(regex).matcher(resourcePath).find();
+        return scannerContext.getPathTemplate(resourcePath, getTemplateParameterPattern()).hasVariable(paramName);
     }
 
     /**
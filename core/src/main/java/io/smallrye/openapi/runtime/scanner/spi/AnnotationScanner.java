@@ -41,7 +41,6 @@ import io.smallrye.openapi.api.OpenApiConfig.OperationIdStrategy;
 import io.smallrye.openapi.api.SmallRyeOASConfig;
 import io.smallrye.openapi.api.constants.JacksonConstants;
 import io.smallrye.openapi.api.constants.KotlinConstants;
-import io.smallrye.openapi.api.constants.SecurityConstants;
 import io.smallrye.openapi.api.models.OpenAPIImpl;
 import io.smallrye.openapi.api.models.OperationImpl;
 import io.smallrye.openapi.api.models.media.ContentImpl;
@@ -74,6 +73,18 @@ public interface AnnotationScanner {
     // Scan using this scanner
     public OpenAPI scan(final AnnotationScannerContext annotationScannerContext, OpenAPI oai);
 
+    /**
+     * Names of the annotations marking the classes or methods handled by this scanner. When
+     * no class of the index carries one of the annotations, the scanner is not run. An empty
+     * collection (the default) means the scanner is always run.
+     *
+     * @return the scanner's trigger annotations
+     * @see AnnotationScannerContext#getCandidateClasses(Collection)
+     */
+    default Collection<DotName> getTriggerAnnotations() {
+        return Collections.emptyList();
+    }
+
     // Create an APIResponse from the response, we need the following info
     public boolean isAsyncResponse(final MethodInfo method);
 
@@ -162,12 +173,7 @@ public interface AnnotationScanner {
     default void processJavaSecurity(AnnotationScannerContext context, ClassInfo resourceClass, OpenAPI openApi) {
         JavaSecurityProcessor securityProcessor = context.getJavaSecurityProcessor();
         securityProcessor.initialize(openApi);
-        securityProcessor
-                .addDeclaredRolesToScopes(
-                        context.annotations().getAnnotationValue(resourceClass, SecurityConstants.DECLARE_ROLES));
-        securityProcessor
-                .addRolesAllowedToScopes(
-                        context.annotations().getAnnotationValue(resourceClass, SecurityConstants.ROLES_ALLOWED));
+        securityProcessor.processClassSecurity(resourceClass);
     }
 
     /**
@@ -306,7 +312,24 @@ public interface AnnotationScanner {
             operation.setOperationId(operationId);
         }
 
-        // validate operationId
+        validateOperationId(context, resourceClass, method, operation);
+
+        return Optional.of(operation);
+    }
+
+    /**
+     * Register the operation's operationId (if any) with the context, warning or failing
+     * when another method has already produced an operation with the same operationId.
+     *
+     * @param context the scanning context
+     * @param resourceClass the class containing the method
+     * @param method the resource method
+     * @param operation the operation created for the method
+     */
+    default void validateOperationId(final AnnotationScannerContext context,
+            final ClassInfo resourceClass,
+            final MethodInfo method,
+            final Operation operation) {
         String operationId = operation.getOperationId();
         if (operationId != null) {
             final MethodInfo conflictingMethod = context.getOperationIdMap().putIfAbsent(operationId, method);
@@ -325,8 +348,6 @@ public interface AnnotationScanner {
                 }
             }
         }
-
-        return Optional.of(operation);
     }
 
     default void setJsonViewContext(AnnotationScannerContext context, Type[] views) {
@@ -353,7 +374,7 @@ public interface AnnotationScanner {
 
     default void processResponse(final AnnotationScannerContext context, final ClassInfo resourceClass, final MethodInfo method,
             Operation operation,
-            Map<DotName, Map<String, APIResponse>> exceptionResponseMap) {
+            Map<String, APIResponse> exceptionResponses) {
 
         setJsonViewContext(context, context.annotations().getAnnotationValue(method, JacksonConstants.JSON_VIEW));
 
@@ -379,21 +400,16 @@ public interface AnnotationScanner {
             createResponseFromRestMethod(context, method, operation);
         }
 
-        //Add api response using list of exceptions in the methods and exception mappers
-        List<Type> methodExceptions = method.exceptions();
-
-        if (exceptionResponseMap != null) {
-            methodExceptions.stream()
-                    .map(Type::name)
-                    .filter(exceptionResponseMap::containsKey)
-                    .map(exceptionResponseMap::get)
-                    .forEach(responseMap -> responseMap.forEach((code, response) -> {
-                        APIResponses responses = ModelUtil.responses(operation);
+        // Add api responses generated by the exception mappers for the method's exceptions
+        if (exceptionResponses != null) {
+            exceptionResponses.forEach((code, response) -> {
+                APIResponses responses = ModelUtil.responses(operation);
 
-                        if (!responses.hasAPIResponse(code)) {
-                            responses.addAPIResponse(code, response);
-                        }
-                    }));
+                if (!responses.hasAPIResponse(code)) {
+                    // The mapper's response is shared by all operations, each one modifies its own copy
+                    responses.addAPIResponse(code, MergeUtil.copyObject(response));
+                }
+            });
         }
 
         clearJsonViewContext(context);
@@ -2,23 +2,36 @@ package io.smallrye.openapi.runtime.scanner.spi;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
 
 import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 
 import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.ScanSession;
 import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
 import io.smallrye.openapi.runtime.io.IOContext;
 import io.smallrye.openapi.runtime.io.OpenAPIDefinitionIO;
 import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
@@ -62,8 +75,17 @@ public class AnnotationScannerContext {
     private final Annotations annotations;
     private final IOContext<?, ?, ?, ?, ?> ioContext;
     private final OpenAPIDefinitionIO<?, ?, ?, ?, ?> modelIO;
+    private final ScanSession scanSession;
 
     private final Map<String, MethodInfo> operationIdMap = new HashMap<>();
+    private final Map<Pattern, Map<String, PathTemplate>> pathTemplates = new HashMap<>();
+    private final Map<DotName, Collection<AnnotationInstance>> indexedAnnotations = new HashMap<>();
+    private final Map<List<DotName>, Set<ClassInfo>> candidateClasses = new HashMap<>();
+    private final Map<List<Object>, Schema> typeSchemas = new HashMap<>();
+    private final Map<DotName, List<Object>> enumConstants = new HashMap<>();
+    private final Map<Class<?>, AbstractParameterProcessor> parameterProcessors = new HashMap<>();
+    private int typeSchemaHits;
+    private int typeSchemaMisses;
 
     public AnnotationScannerContext(FilteredIndexView index,
             ClassLoader classLoader,
@@ -72,6 +94,18 @@ public class AnnotationScannerContext {
             OpenApiConfig config,
             OpenAPIDefinitionIO<?, ?, ?, ?, ?> modelIO,
             OpenAPI openApi) {
+        this(index, classLoader, extensions, addDefaultExtension, config, modelIO, openApi, null);
+    }
+
+    public AnnotationScannerContext(FilteredIndexView index,
+            ClassLoader classLoader,
+            List<AnnotationScannerExtension> extensions,
+            boolean addDefaultExtension,
+            OpenApiConfig config,
+            OpenAPIDefinitionIO<?, ?, ?, ?, ?> modelIO,
+            OpenAPI openApi,
+            ScanSession scanSession) {
+        this.scanSession = scanSession;
         this.index = index;
         this.augmentedIndex = AugmentedIndexView.augment(index);
         this.ignoreResolver = new IgnoreResolver(this);
@@ -165,6 +199,135 @@ public class AnnotationScannerContext {
         return operationIdMap;
     }
 
+    /**
+     * Retrieve the instances of an annotation in the (filtered) index. The index is
+     * queried once per annotation, the instances are shared by all scanners.
+     *
+     * @param annotationName name of the annotation
+     * @return the annotation's instances, never null
+     */
+    public Collection<AnnotationInstance> getIndexedAnnotations(DotName annotationName) {
+        return indexedAnnotations.computeIfAbsent(annotationName,
+                name -> Collections.unmodifiableCollection(index.getAnnotations(name)));
+    }
+
+    /**
+     * Retrieve the classes of the (filtered) index carrying any of the given annotations,
+     * either on the class itself or on one of its methods, in the order of the annotations'
+     * instances. The classes are computed once per set of annotations, typically the
+     * {@link AnnotationScanner#getTriggerAnnotations() trigger annotations} of a scanner,
+     * both to decide whether the scanner runs and as the classes it processes.
+     *
+     * @param annotationNames names of the annotations
+     * @return the candidate classes, never null
+     */
+    public Set<ClassInfo> getCandidateClasses(Collection<DotName> annotationNames) {
+        return candidateClasses.computeIfAbsent(new ArrayList<>(annotationNames), names -> {
+            Set<ClassInfo> classes = new LinkedHashSet<>();
+
+            for (DotName name : names) {
+                for (AnnotationInstance annotation : getIndexedAnnotations(name)) {
+                    AnnotationTarget target = annotation.target();
+
+                    if (target.kind() == AnnotationTarget.Kind.CLASS) {
+                        classes.add(target.asClass());
+                    } else if (target.kind() == AnnotationTarget.Kind.METHOD) {
+                        classes.add(target.asMethod().declaringClass());
+                    }
+                }
+            }
+
+            return Collections.unmodifiableSet(classes);
+        });
+    }
+
+    /**
+     * Retrieve the constants of an enum as listed in its schema, computing them only
+     * the first time the enum is requested. The naming of the constants depends only
+     * on the enum's own annotations, the class loader and the property ordering, all
+     * fixed for the context, so the constants are shared with the other scans of the
+     * context's {@link ScanSession} using the same class loader and ordering.
+     *
+     * @param enumName name of the enum
+     * @param factory function to compute the constants of the enum
+     * @return the enum's constants, unmodifiable and shared by all callers
+     */
+    public List<Object> getEnumConstants(DotName enumName, Function<DotName, List<Object>> factory) {
+        return enumConstants.computeIfAbsent(enumName, name -> scanSession != null
+                ? scanSession.getEnumConstants(classLoader, name, config.sortedPropertiesEnable(), factory)
+                : Collections.unmodifiableList(factory.apply(name)));
+    }
+
+    /**
+     * Retrieve the parameter processor of a framework re-used for the resource methods
+     * of this scan, creating it the first time it is requested. The processor is only
+     * referenced by the context, so it is released together with the scan.
+     *
+     * @param <P> type of the framework's processor
+     * @param type class of the framework's processor
+     * @param factory creates an unbound processor
+     * @return the processor of the scan, which may be in use by an enclosing method
+     */
+    <P extends AbstractParameterProcessor> P getParameterProcessor(Class<P> type, Supplier<P> factory) {
+        return type.cast(parameterProcessors.computeIfAbsent(type, t -> factory.get()));
+    }
+
+    /**
+     * Retrieve the parsed form of a path, parsing it only the first time it is
+     * requested with the given variable pattern.
+     *
+     * @param path the raw path declared by the application
+     * @param constrainedVariablePattern the framework's pattern for variables with a regular expression
+     * @return the parsed path template
+     */
+    public PathTemplate getPathTemplate(String path, Pattern constrainedVariablePattern) {
+        return pathTemplates.computeIfAbsent(constrainedVariablePattern, p -> new HashMap<>())
+                .computeIfAbsent(path, p -> PathTemplate.parse(p, constrainedVariablePattern));
+    }
+
+    /**
+     * Retrieve a copy of the schema computed for a type, computing it only the first
+     * time the type is requested with the current JSON views and scanner. The caller
+     * is responsible for only requesting schemas that do not depend on any other
+     * state of the scan.
+     *
+     * @param type the type of the schema
+     * @param factory function to compute the schema of the type
+     * @return schema of the type, which may be modified by the caller
+     */
+    public Schema getTypeSchema(Type type, Function<Type, Schema> factory) {
+        List<Object> key = Arrays.asList(type, new HashSet<>(jsonViews), currentScanner.map(AnnotationScanner::getName));
+        Schema cached = typeSchemas.get(key);
+
+        if (cached != null) {
+            typeSchemaHits++;
+            return SchemaImpl.copyOf(cached);
+        }
+
+        typeSchemaMisses++;
+        Schema schema = factory.apply(type);
+
+        if (schema != null) {
+            typeSchemas.put(key, SchemaImpl.copyOf(schema));
+        }
+
+        return schema;
+    }
+
+    /**
+     * @return number of requests to {@link #getTypeSchema(Type, Function)} answered from the cache
+     */
+    public int getTypeSchemaHits() {
+        return typeSchemaHits;
+    }
+
+    /**
+     * @return number of requests to {@link #getTypeSchema(Type, Function)} that computed the schema
+     */
+    public int getTypeSchemaMisses() {
+        return typeSchemaMisses;
+    }
+
     public String[] getCurrentConsumes() {
         return currentConsumes;
     }
@@ -213,6 +376,13 @@ public class AnnotationScannerContext {
         return javaSecurityProcessor;
     }
 
+    /**
+     * @return the session shared with other scans of the same index, or null when the scan is not part of a session
+     */
+    public ScanSession getScanSession() {
+        return scanSession;
+    }
+
     public Annotations annotations() {
         return annotations;
     }
@@ -3,12 +3,17 @@ package io.smallrye.openapi.runtime.scanner.spi;
 import static java.util.Comparator.comparing;
 import static java.util.Comparator.nullsLast;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
+import java.util.WeakHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 /**
  * Factory that allows plugging in more scanners.
@@ -17,19 +22,87 @@ import java.util.stream.StreamSupport;
  */
 public class AnnotationScannerFactory implements Supplier<Iterable<AnnotationScanner>> {
 
+    /**
+     * Scanner classes discovered via the ServiceLoader, per class loader. The classes are
+     * only weakly referenced, the cache therefore neither keeps the class loader nor any
+     * of its classes reachable.
+     */
+    private static final Map<ClassLoader, List<WeakReference<Class<? extends AnnotationScanner>>>> SCANNER_TYPES = Collections
+            .synchronizedMap(new WeakHashMap<>());
+
     /**
      * List of AnnotationScanners discovered via the ServiceLoader, ordered by
      * {@linkplain AnnotationScanner#getName() name}
      */
     private final List<AnnotationScanner> loadedScanners;
 
+    /**
+     * Create a factory for the scanners registered as services of the class loader. The
+     * class loader's {@code META-INF/services} entries are only read by the first factory
+     * created for the class loader, each factory has its own scanner instances created
+     * with the scanner's public no-argument constructor.
+     *
+     * @param loader class loader used to discover the scanners
+     */
     public AnnotationScannerFactory(ClassLoader loader) {
-        Iterable<AnnotationScanner> scanners = ServiceLoader.load(AnnotationScanner.class, loader);
-        loadedScanners = StreamSupport.stream(scanners.spliterator(), false)
+        this(getProviders(loader));
+    }
+
+    /**
+     * Create a factory for a fixed set of scanners, without service discovery. Intended
+     * for closed-world deployments (e.g. native images) where the available scanners are
+     * known when the application is built.
+     *
+     * @param scanners suppliers of the scanner instances, e.g. {@code JaxRsAnnotationScanner::new}
+     */
+    public AnnotationScannerFactory(Collection<? extends Supplier<? extends AnnotationScanner>> scanners) {
+        loadedScanners = scanners.stream()
+                .map(Supplier::get)
                 .sorted(comparing(AnnotationScanner::getName, nullsLast(String::compareTo)))
                 .collect(Collectors.toList());
     }
 
+    private static List<Supplier<AnnotationScanner>> getProviders(ClassLoader loader) {
+        return getScannerTypes(loader)
+                .stream()
+                .map(type -> (Supplier<AnnotationScanner>) () -> newInstance(type))
+                .collect(Collectors.toList());
+    }
+
+    private static List<Class<? extends AnnotationScanner>> getScannerTypes(ClassLoader loader) {
+        List<WeakReference<Class<? extends AnnotationScanner>>> references = SCANNER_TYPES.get(loader);
+
+        if (references != null) {
+            List<Class<? extends AnnotationScanner>> types = references.stream()
+                    .map(WeakReference::get)
+                    .collect(Collectors.toList());
+
+            if (!types.contains(null)) {
+                return types;
+            }
+        }
+
+        List<Class<? extends AnnotationScanner>> types = ServiceLoader.load(AnnotationScanner.class, loader)
+                .stream()
+                .map(ServiceLoader.Provider::type)
+                .collect(Collectors.toList());
+
+        SCANNER_TYPES.put(loader, types.stream()
+                .map(WeakReference<Class<? extends AnnotationScanner>>::new)
+                .collect(Collectors.toList()));
+
+        return types;
+    }
+
+    private static AnnotationScanner newInstance(Class<? extends AnnotationScanner> type) {
+        try {
+            return type.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new ServiceConfigurationError(AnnotationScanner.class.getName() + ": Provider " + type.getName()
+                    + " could not be instantiated", e);
+        }
+    }
+
     public List<AnnotationScanner> getAnnotationScanners() {
         return new ArrayList<>(loadedScanners);
     }
@@ -0,0 +1,147 @@
+package io.smallrye.openapi.runtime.scanner.spi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parsed form of a framework path template, e.g. the value of a JAX-RS {@code @Path}
+ * annotation. Templates are immutable and parsed once per raw path, see
+ * {@link AnnotationScannerContext#getPathTemplate(String, Pattern)}.
+ *
+ * @see AbstractParameterProcessor#getTemplateParameterPattern()
+ */
+public final class PathTemplate {
+
+    /**
+     * A template variable declared with a regular expression constraint,
+     * e.g. <code>{id: [0-9]+}</code>.
+     */
+    public static final class ConstrainedVariable {
+        private final String name;
+        private final String pattern;
+
+        ConstrainedVariable(String name, String pattern) {
+            this.name = name;
+            this.pattern = pattern;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getPattern() {
+            return pattern;
+        }
+    }
+
+    private final String path;
+    private final List<ConstrainedVariable> constrainedVariables;
+    private final Set<String> variableNames;
+
+    private PathTemplate(String path, List<ConstrainedVariable> constrainedVariables, Set<String> variableNames) {
+        this.path = path;
+        this.constrainedVariables = constrainedVariables;
+        this.variableNames = variableNames;
+    }
+
+    /**
+     * Parse a raw path.
+     *
+     * @param rawPath the path as declared by the application
+     * @param constrainedVariablePattern the framework's pattern for template variables with a
+     *        regular expression, where group 1 is the variable name and group 2 the expression
+     * @return the parsed template
+     */
+    public static PathTemplate parse(String rawPath, Pattern constrainedVariablePattern) {
+        Matcher matcher = constrainedVariablePattern.matcher(rawPath);
+        List<ConstrainedVariable> constrained = new ArrayList<>();
+        StringBuilder path = new StringBuilder(rawPath.length());
+        int end = 0;
+
+        while (matcher.find()) {
+            String variableName = matcher.group(1).trim();
+            constrained.add(new ConstrainedVariable(variableName, matcher.group(2).trim()));
+            path.append(rawPath, end, matcher.start()).append('{').append(variableName).append('}');
+            end = matcher.end();
+        }
+
+        path.append(rawPath, end, rawPath.length());
+
+        return new PathTemplate(path.toString(),
+                constrained.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(constrained),
+                variableNames(rawPath));
+    }
+
+    /**
+     * Collect the names of the <code>{name}</code> and <code>{name: regex}</code> variables in the path.
+     */
+    private static Set<String> variableNames(String rawPath) {
+        Set<String> names = null;
+        int open = rawPath.indexOf('{');
+
+        while (open > -1) {
+            int start = open + 1;
+            int end = start;
+
+            while (start < rawPath.length() && isBlank(rawPath.charAt(start))) {
+                start++;
+            }
+
+            while (end < rawPath.length() && rawPath.charAt(end) != '}' && rawPath.charAt(end) != ':') {
+                end++;
+            }
+
+            if (end < rawPath.length()) {
+                int nameEnd = end;
+
+                while (nameEnd > start && isBlank(rawPath.charAt(nameEnd - 1))) {
+                    nameEnd--;
+                }
+
+                if (names == null) {
+                    names = new HashSet<>();
+                }
+
+                names.add(rawPath.substring(start, Math.max(start, nameEnd)));
+            }
+
+            open = rawPath.indexOf('{', open + 1);
+        }
+
+        return names != null ? names : Collections.emptySet();
+    }
+
+    private static boolean isBlank(char c) {
+        return c == ' ' || c == '\t';
+    }
+
+    /**
+     * @return the path with each constrained variable replaced by <code>{name}</code>
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return the variables declared with a regular expression, in the order they appear
+     */
+    public List<ConstrainedVariable> getConstrainedVariables() {
+        return constrainedVariables;
+    }
+
+    /**
+     * Check whether the path declares a template variable (with or without a regular
+     * expression) with the given name.
+     *
+     * @param name name of the variable
+     * @return true if the path contains the variable, otherwise false
+     */
+    public boolean hasVariable(String name) {
+        return variableNames.contains(name);
+    }
+}
@@ -25,6 +25,7 @@ import org.jboss.jandex.PrimitiveType;
 import org.jboss.jandex.PrimitiveType.Primitive;
 import org.jboss.jandex.Type;
 
+import io.smallrye.openapi.api.ScanSession;
 import io.smallrye.openapi.runtime.scanner.dataobject.AugmentedIndexView;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
 
@@ -75,7 +76,17 @@ public final class Annotations {
                 .collect(Collectors.toList());
     }
 
-    private static List<AnnotationInstance> getDeclaredAnnotations(AnnotationTarget target) {
+    private List<AnnotationInstance> getDeclaredAnnotations(AnnotationTarget target) {
+        ScanSession session = context.getScanSession();
+
+        if (session != null && target.kind() != AnnotationTarget.Kind.TYPE) {
+            return session.getDeclaredAnnotations(target, Annotations::readDeclaredAnnotations);
+        }
+
+        return readDeclaredAnnotations(target);
+    }
+
+    private static List<AnnotationInstance> readDeclaredAnnotations(AnnotationTarget target) {
         switch (target.kind()) {
             case CLASS:
                 return declaredAnnotations(target.asClass());
@@ -27,7 +27,7 @@ import io.smallrye.openapi.api.models.media.ContentImpl;
 import io.smallrye.openapi.api.models.media.MediaTypeImpl;
 import io.smallrye.openapi.api.models.responses.APIResponsesImpl;
 import io.smallrye.openapi.api.util.MergeUtil;
-import io.smallrye.openapi.runtime.io.ReferenceType;
+import io.smallrye.openapi.runtime.io.ComponentRef;
 import io.smallrye.openapi.runtime.io.media.ContentIO;
 
 /**
@@ -102,58 +102,66 @@ public class ModelUtil {
      * @param ref reference path to retrieve
      * @return the component referenced by ref if present, otherwise null
      */
-    @SuppressWarnings("unchecked")
     public static <T> T getComponent(OpenAPI openApi, String ref) {
+        return getComponent(openApi, ComponentRef.of(ref));
+    }
+
+    /**
+     * Gets the component specified by the given parsed reference from the OpenAPI model.
+     *
+     * @param <T> the type of the component map's entry values
+     * @param openApi containing OpenAPI model
+     * @param ref parsed reference to retrieve
+     * @return the component referenced by ref if present, otherwise null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T getComponent(OpenAPI openApi, ComponentRef ref) {
         final Components components = openApi.getComponents();
-        Map<String, T> types = null;
-        T value = null;
-
-        if (components != null && ref.startsWith("#")) {
-            String[] split = ref.split("/");
-
-            if (split.length > 1) {
-                String name = split[split.length - 1];
-                ReferenceType type = ReferenceType.fromComponentPath(split[split.length - 2]);
-
-                if (type != null) {
-                    switch (type) {
-                        case CALLBACK:
-                            types = (Map<String, T>) components.getCallbacks();
-                            break;
-                        case EXAMPLE:
-                            types = (Map<String, T>) components.getExamples();
-                            break;
-                        case HEADER:
-                            types = (Map<String, T>) components.getHeaders();
-                            break;
-                        case LINK:
-                            types = (Map<String, T>) components.getLinks();
-                            break;
-                        case PARAMETER:
-                            types = (Map<String, T>) components.getParameters();
-                            break;
-                        case REQUEST_BODY:
-                            types = (Map<String, T>) components.getRequestBodies();
-                            break;
-                        case RESPONSE:
-                            types = (Map<String, T>) components.getResponses();
-                            break;
-                        case SCHEMA:
-                            types = (Map<String, T>) components.getSchemas();
-                            break;
-                        case SECURITY_SCHEME:
-                            types = (Map<String, T>) components.getSecuritySchemes();
-                            break;
-                        default:
-                            break;
-                    }
-                }
 
-                value = types != null ? types.get(name) : null;
-            }
+        if (components == null || !ref.isComponent()) {
+            return null;
         }
 
-        return value;
+        if (components instanceof ComponentsImpl) {
+            return (T) ((ComponentsImpl) components).getComponent(ref.getType(), ref.getName());
+        }
+
+        Map<String, T> types;
+
+        switch (ref.getType()) {
+            case CALLBACK:
+                types = (Map<String, T>) components.getCallbacks();
+                break;
+            case EXAMPLE:
+                types = (Map<String, T>) components.getExamples();
+                break;
+            case HEADER:
+                types = (Map<String, T>) components.getHeaders();
+                break;
+            case LINK:
+                types = (Map<String, T>) components.getLinks();
+                break;
+            case PARAMETER:
+                types = (Map<String, T>) components.getParameters();
+                break;
+            case REQUEST_BODY:
+                types = (Map<String, T>) components.getRequestBodies();
+                break;
+            case RESPONSE:
+                types = (Map<String, T>) components.getResponses();
+                break;
+            case SCHEMA:
+                types = (Map<String, T>) components.getSchemas();
+                break;
+            case SECURITY_SCHEME:
+                types = (Map<String, T>) components.getSecuritySchemes();
+                break;
+            default:
+                types = null;
+                break;
+        }
+
+        return types != null ? types.get(ref.getName()) : null;
     }
 
     /**
@@ -352,8 +360,14 @@ public class ModelUtil {
      * @return Name
      */
     public static String nameFromRef(String ref) {
-        String[] split = ref.split("/");
-        return split[split.length - 1];
+        // Trailing separators are ignored, as by String#split
+        int end = ref.length();
+
+        while (end > 0 && ref.charAt(end - 1) == '/') {
+            end--;
+        }
+
+        return ref.substring(ref.lastIndexOf('/', end - 1) + 1, end);
     }
 
     public static <V> Map<String, V> unmodifiableMap(Map<String, V> map) {
@@ -3,11 +3,23 @@ package io.smallrye.openapi.api;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.eclipse.microprofile.openapi.OASConfig;
 import org.junit.jupiter.api.Test;
 
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+
 class OpenApiConfigImplTest {
 
     private static final String TEST_PROPERTY = OASConfig.EXTENSIONS_PREFIX + "OpenApiConfigImplTest";
@@ -48,4 +60,59 @@ class OpenApiConfigImplTest {
         }
     }
 
+    @Test
+    void testGetConfigValueConcurrently() throws Exception {
+        Map<String, String> properties = new HashMap<>();
+
+        for (int i = 0; i < 1000; i++) {
+            properties.put(TEST_PROPERTY + i, Integer.toString(i));
+        }
+
+        OpenApiConfig oaiConfig = IndexScannerTestBase.dynamicConfig(properties);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+
+        try {
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    // Each thread fills the cache from another offset, also reading absent values
+                    for (int n = 0; n < 1000; n++) {
+                        int i = (n + offset * 125) % 1000;
+                        assertEquals(Integer.valueOf(i),
+                                oaiConfig.getConfigValue(TEST_PROPERTY + i, Integer.class, () -> null));
+                        assertNull(oaiConfig.getConfigValue(TEST_PROPERTY + "absent" + i, String.class, () -> null));
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // No value read concurrently was lost from the cache
+        AtomicInteger reads = new AtomicInteger();
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(Integer.valueOf(i), oaiConfig.getConfigValue(TEST_PROPERTY + i, Integer.class, value -> {
+                reads.incrementAndGet();
+                return value;
+            }, () -> -1));
+            assertNull(oaiConfig.getConfigValue(TEST_PROPERTY + "absent" + i, String.class, value -> {
+                reads.incrementAndGet();
+                return value;
+            }, () -> "default"));
+        }
+
+        assertEquals(0, reads.get());
+    }
 }
@@ -0,0 +1,84 @@
+package io.smallrye.openapi.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.DotName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+
+class ScanSessionTest {
+
+    static final AtomicInteger jsonValueCalls = new AtomicInteger();
+
+    @Schema(name = "Size")
+    public enum Size {
+        SMALL("s"),
+        LARGE("l");
+
+        private final String code;
+
+        Size(String code) {
+            this.code = code;
+        }
+
+        @JsonValue
+        public String code() {
+            jsonValueCalls.incrementAndGet();
+            return code;
+        }
+    }
+
+    private static OpenAPI build(ScanSession session, String sorted) {
+        return SmallRyeOpenAPI.builder()
+                .withConfig(IndexScannerTestBase.config(SmallRyeOASConfig.SMALLRYE_SORTED_PROPERTIES_ENABLE, sorted))
+                .withScanSession(session)
+                .build()
+                .model();
+    }
+
+    private static List<Object> sizeEnumeration(OpenAPI model) {
+        return model.getComponents().getSchemas().get("Size").getEnumeration();
+    }
+
+    @Test
+    void testEnumConstantsSharedBySessionBuilds() {
+        ScanSession session = new ScanSession(IndexScannerTestBase.indexOf(Size.class));
+        jsonValueCalls.set(0);
+
+        OpenAPI first = build(session, "false");
+        OpenAPI second = build(session, "false");
+
+        // The @JsonValue method is only invoked by the first build
+        assertEquals(2, jsonValueCalls.get());
+        assertEquals(Arrays.asList("s", "l"), sizeEnumeration(first));
+        assertEquals(Arrays.asList("s", "l"), sizeEnumeration(second));
+
+        // Builds with another property ordering compute their own constants
+        build(session, "true");
+        assertEquals(4, jsonValueCalls.get());
+    }
+
+    @Test
+    void testEnumConstantsPerClassLoader() {
+        ScanSession session = new ScanSession(IndexScannerTestBase.indexOf(Size.class));
+        DotName name = DotName.createSimple(Size.class);
+        ClassLoader loader = getClass().getClassLoader();
+        List<Object> constants = session.getEnumConstants(loader, name, false, n -> Arrays.asList("s", "l"));
+
+        assertSame(constants, session.getEnumConstants(loader, name, false, n -> Collections.emptyList()));
+        assertEquals(Collections.emptyList(),
+                session.getEnumConstants(new ClassLoader(loader) {
+                }, name, false, n -> Collections.emptyList()));
+    }
+}
@@ -0,0 +1,46 @@
+package io.smallrye.openapi.api.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.junit.jupiter.api.Test;
+
+class ExtensibleImplTest {
+
+    @Test
+    void testExtensionsReadsBackingMap() {
+        Operation operation = new OperationImpl();
+        assertNull(ExtensibleImpl.extensions(operation));
+        assertNull(operation.getExtensions());
+
+        operation.addExtension("x-first", "one");
+        Map<String, Object> extensions = ExtensibleImpl.extensions(operation);
+        assertEquals(Collections.singletonMap("x-first", "one"), extensions);
+        assertSame(extensions, ExtensibleImpl.extensions(operation));
+
+        // Later changes to the model are visible through the backing map
+        operation.addExtension("x-second", "two");
+        assertEquals("two", extensions.get("x-second"));
+        assertEquals(operation.getExtensions(), extensions);
+
+        // The public getter still returns a view that cannot be modified
+        assertThrows(UnsupportedOperationException.class, () -> operation.getExtensions().put("x-third", "three"));
+    }
+
+    @Test
+    void testExtensionsOfOtherImplementation() {
+        Map<String, Object> extensions = Collections.singletonMap("x-other", true);
+        Operation operation = (Operation) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { Operation.class },
+                (proxy, method, args) -> "getExtensions".equals(method.getName()) ? extensions : null);
+
+        assertSame(extensions, ExtensibleImpl.extensions(operation));
+    }
+}
@@ -0,0 +1,72 @@
+package io.smallrye.openapi.api.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.models.callbacks.CallbackImpl;
+import io.smallrye.openapi.api.models.media.ContentImpl;
+import io.smallrye.openapi.api.models.media.MediaTypeImpl;
+import io.smallrye.openapi.api.models.responses.APIResponseImpl;
+import io.smallrye.openapi.api.models.responses.APIResponsesImpl;
+
+class MapModelTest {
+
+    private static <M extends MapModel<?>> void assertGettersAfterRead(Supplier<M> factory, Function<M, Map<?, ?>> getter) {
+        assertNull(getter.apply(factory.get()));
+
+        M model = factory.get();
+        assertEquals(0, model.size());
+        assertEquals(Collections.emptyMap(), getter.apply(model));
+
+        model = factory.get();
+        assertTrue(model.isEmpty());
+        assertEquals(Collections.emptyMap(), getter.apply(model));
+
+        model = factory.get();
+        assertNull(model.get("missing"));
+        assertEquals(Collections.emptyMap(), getter.apply(model));
+
+        model = factory.get();
+        assertFalse(model.containsKey("missing"));
+        assertFalse(model.containsValue(null));
+        assertEquals(Collections.emptyMap(), getter.apply(model));
+    }
+
+    @Test
+    void testGettersReturnEmptyMapAfterRead() {
+        assertGettersAfterRead(ContentImpl::new, ContentImpl::getMediaTypes);
+        assertGettersAfterRead(PathsImpl::new, PathsImpl::getPathItems);
+        assertGettersAfterRead(APIResponsesImpl::new, APIResponsesImpl::getAPIResponses);
+        assertGettersAfterRead(CallbackImpl::new, CallbackImpl::getPathItems);
+    }
+
+    @Test
+    void testReadsUseBackingMap() {
+        ContentImpl content = new ContentImpl();
+        MediaTypeImpl json = new MediaTypeImpl();
+        content.addMediaType("application/json", json);
+
+        assertEquals(1, content.size());
+        assertFalse(content.isEmpty());
+        assertSame(json, content.get("application/json"));
+        assertTrue(content.containsKey("application/json"));
+        assertTrue(content.containsValue(json));
+
+        APIResponsesImpl responses = new APIResponsesImpl();
+        APIResponseImpl ok = new APIResponseImpl();
+        responses.put("200", ok);
+        assertSame(ok, responses.getAPIResponse("200"));
+        assertSame(responses.getMap(), responses.getMap());
+        assertEquals(Collections.singletonMap("200", ok), responses.getAPIResponses());
+    }
+}
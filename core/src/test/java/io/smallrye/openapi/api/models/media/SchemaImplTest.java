@@ -0,0 +1,90 @@
+package io.smallrye.openapi.api.models.media;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.junit.jupiter.api.Test;
+
+class SchemaImplTest {
+
+    @Test
+    void testAccessorsOfEmptySchema() {
+        Schema schema = new SchemaImpl();
+
+        assertNull(SchemaImpl.properties(schema));
+        assertNull(SchemaImpl.allOf(schema));
+        assertNull(SchemaImpl.anyOf(schema));
+        assertNull(SchemaImpl.oneOf(schema));
+        assertNull(SchemaImpl.required(schema));
+        assertNull(SchemaImpl.enumeration(schema));
+    }
+
+    @Test
+    void testAccessorsReadBackingCollections() {
+        Schema name = new SchemaImpl().type(Schema.SchemaType.STRING);
+        Schema first = new SchemaImpl();
+        Schema second = new SchemaImpl();
+        Schema third = new SchemaImpl();
+        Schema schema = new SchemaImpl()
+                .addProperty("name", name)
+                .addAllOf(first)
+                .addAnyOf(second)
+                .addOneOf(third)
+                .addRequired("name")
+                .addEnumeration("value");
+
+        Map<String, Schema> properties = SchemaImpl.properties(schema);
+        assertEquals(Collections.singletonMap("name", name), properties);
+        assertSame(properties, SchemaImpl.properties(schema));
+        assertEquals(Arrays.asList(first), SchemaImpl.allOf(schema));
+        assertEquals(Arrays.asList(second), SchemaImpl.anyOf(schema));
+        assertEquals(Arrays.asList(third), SchemaImpl.oneOf(schema));
+        assertEquals(Arrays.asList("name"), SchemaImpl.required(schema));
+        assertEquals(Arrays.asList("value"), SchemaImpl.enumeration(schema));
+
+        // Later changes to the schema are visible through the backing collections
+        List<Schema> allOf = SchemaImpl.allOf(schema);
+        Schema fourth = new SchemaImpl();
+        schema.addAllOf(fourth);
+        assertEquals(Arrays.asList(first, fourth), allOf);
+        assertEquals(schema.getAllOf(), allOf);
+
+        // The public getters still return views that cannot be modified
+        assertThrows(UnsupportedOperationException.class, () -> schema.getProperties().remove("name"));
+        assertThrows(UnsupportedOperationException.class, () -> schema.getRequired().add("other"));
+    }
+
+    @Test
+    void testAccessorsOfOtherImplementation() {
+        Map<String, Schema> properties = Collections.singletonMap("name", new SchemaImpl());
+        List<Schema> allOf = Collections.singletonList(new SchemaImpl());
+        List<String> required = Collections.singletonList("name");
+        Schema schema = (Schema) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Schema.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getProperties":
+                            return properties;
+                        case "getAllOf":
+                            return allOf;
+                        case "getRequired":
+                            return required;
+                        default:
+                            return null;
+                    }
+                });
+
+        assertSame(properties, SchemaImpl.properties(schema));
+        assertSame(allOf, SchemaImpl.allOf(schema));
+        assertSame(required, SchemaImpl.required(schema));
+        assertNull(SchemaImpl.oneOf(schema));
+    }
+}
@@ -2,8 +2,17 @@ package io.smallrye.openapi.api.util;
 
 import static io.smallrye.openapi.runtime.scanner.IndexScannerTestBase.loadResource;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
@@ -13,6 +22,8 @@ import org.eclipse.microprofile.openapi.models.OpenAPI;
 import org.eclipse.microprofile.openapi.models.Operation;
 import org.eclipse.microprofile.openapi.models.PathItem;
 import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.parameters.Parameter;
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
 import org.eclipse.microprofile.openapi.models.tags.Tag;
 import org.json.JSONException;
 import org.junit.jupiter.api.Test;
@@ -121,6 +132,235 @@ class FilterUtilTest {
         assertDoesNotThrow(() -> FilterUtil.applyFilter(filter(), model));
     }
 
+    @Test
+    void testApplyFiltersChained() {
+        List<String> calls = new ArrayList<>();
+        Schema replacement = OASFactory.createSchema().description("replaced");
+
+        OASFilter f1 = new ChainableFilter() {
+            @Override
+            public Schema filterSchema(Schema schema) {
+                calls.add("f1:" + schema.getDescription());
+                return "removed".equals(schema.getDescription()) ? null
+                        : "original".equals(schema.getDescription()) ? replacement : schema;
+            }
+        };
+        OASFilter f2 = new ChainableFilter() {
+            @Override
+            public Schema filterSchema(Schema schema) {
+                calls.add("f2:" + schema.getDescription());
+                return schema;
+            }
+
+            @Override
+            public void filterOpenAPI(OpenAPI openAPI) {
+                calls.add("f2:openAPI");
+            }
+        };
+
+        OpenAPI model = OASFactory.createOpenAPI()
+                .components(OASFactory.createComponents()
+                        .addSchema("A", OASFactory.createSchema().description("original"))
+                        .addSchema("B", OASFactory.createSchema().description("removed")));
+
+        FilterUtil.applyFilters(Arrays.asList(f1, f2), model);
+
+        assertEquals(Arrays.asList("f1:original", "f2:replaced", "f1:removed", "f2:openAPI"), calls);
+        assertEquals(Collections.singleton("A"), model.getComponents().getSchemas().keySet());
+    }
+
+    @Test
+    void testApplyFiltersAfterFilterOpenAPI() {
+        List<String> calls = new ArrayList<>();
+        OASFilter adding = new ChainableFilter() {
+            @Override
+            public PathItem filterPathItem(PathItem pathItem) {
+                calls.add("adding:" + pathItem.getDescription());
+                return pathItem;
+            }
+
+            @Override
+            public void filterOpenAPI(OpenAPI openAPI) {
+                calls.add("adding:openAPI");
+                openAPI.getPaths().addPathItem("/added", OASFactory.createPathItem().description("added"));
+            }
+        };
+        OASFilter removing = new ChainableFilter() {
+            @Override
+            public PathItem filterPathItem(PathItem pathItem) {
+                calls.add("removing:" + pathItem.getDescription());
+                return "added".equals(pathItem.getDescription()) ? null : pathItem;
+            }
+        };
+
+        OpenAPI model = OASFactory.createOpenAPI()
+                .paths(OASFactory.createPaths()
+                        .addPathItem("/existing", OASFactory.createPathItem().description("existing")));
+
+        FilterUtil.applyFilters(Arrays.asList(adding, removing), model);
+
+        // The second filter traverses the model including the path added by the first, as if applied on its own
+        assertEquals(Arrays.asList("adding:existing", "adding:openAPI", "removing:existing", "removing:added"), calls);
+        assertEquals(Collections.singleton("/existing"), model.getPaths().getPathItems().keySet());
+    }
+
+    @Test
+    void testApplyFiltersNotChainedByDefault() {
+        List<String> calls = new ArrayList<>();
+        OASFilter adding = new OASFilter() {
+            @Override
+            public Operation filterOperation(Operation operation) {
+                calls.add("adding:operation");
+                return operation.addParameter(OASFactory.createParameter().name("added"));
+            }
+        };
+        OASFilter chainable = new ChainableFilter() {
+            @Override
+            public Parameter filterParameter(Parameter parameter) {
+                calls.add("chainable:" + parameter.getName());
+                return parameter;
+            }
+        };
+        OASFilter removing = new OASFilter() {
+            @Override
+            public Parameter filterParameter(Parameter parameter) {
+                calls.add("removing:" + parameter.getName());
+                return "added".equals(parameter.getName()) ? null : parameter;
+            }
+        };
+
+        OpenAPI model = OASFactory.createOpenAPI()
+                .paths(OASFactory.createPaths().addPathItem("/path", OASFactory.createPathItem()
+                        .GET(OASFactory.createOperation()
+                                .addParameter(OASFactory.createParameter().name("existing")))));
+
+        FilterUtil.applyFilters(Arrays.asList(adding, chainable, removing), model);
+
+        // Each filter not marked chainable traverses the model as left by the previous ones
+        assertEquals(Arrays.asList("adding:operation",
+                "chainable:existing", "chainable:added",
+                "removing:existing", "removing:added"), calls);
+        assertEquals(Collections.singletonList("existing"),
+                model.getPaths().getPathItem("/path").getGET().getParameters().stream()
+                        .map(Parameter::getName)
+                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    void testApplyFiltersChainedMissChildrenAddedByParentHook() {
+        List<String> calls = new ArrayList<>();
+        OASFilter adding = new ChainableFilter() {
+            @Override
+            public Operation filterOperation(Operation operation) {
+                return operation.addParameter(OASFactory.createParameter().name("added"));
+            }
+        };
+        OASFilter recording = new ChainableFilter() {
+            @Override
+            public Parameter filterParameter(Parameter parameter) {
+                calls.add(parameter.getName());
+                return parameter;
+            }
+        };
+
+        OpenAPI model = OASFactory.createOpenAPI()
+                .paths(OASFactory.createPaths().addPathItem("/path", OASFactory.createPathItem()
+                        .GET(OASFactory.createOperation()
+                                .addParameter(OASFactory.createParameter().name("existing")))));
+
+        FilterUtil.applyFilters(Arrays.asList(adding, recording), model);
+
+        // The parameters are filtered before the operation adding one in the same traversal
+        assertEquals(Collections.singletonList("existing"), calls);
+    }
+
+    @Test
+    void testApplyConcurrentFilter() {
+        Schema shared = OASFactory.createSchema()
+                .addProperty("keep", OASFactory.createSchema())
+                .addProperty("drop", OASFactory.createSchema().description("drop"));
+        OpenAPI model = OASFactory.createOpenAPI()
+                .paths(OASFactory.createPaths())
+                .components(OASFactory.createComponents().addSchema("Shared", shared));
+
+        for (int i = 0; i < 500; i++) {
+            model.getPaths().addPathItem("/path" + i, OASFactory.createPathItem()
+                    .GET(OASFactory.createOperation().operationId("op" + i).addParameter(
+                            OASFactory.createParameter().name("p").schema(shared))));
+        }
+
+        Set<String> visited = ConcurrentHashMap.newKeySet();
+        ConcurrentFilter filter = new ConcurrentFilter() {
+            @Override
+            public PathItem filterPathItem(PathItem pathItem) {
+                visited.add(pathItem.getGET().getOperationId());
+                return Integer.parseInt(pathItem.getGET().getOperationId().substring(2)) % 2 == 0 ? pathItem : null;
+            }
+
+            @Override
+            public Schema filterSchema(Schema schema) {
+                return "drop".equals(schema.getDescription()) ? null : schema;
+            }
+        };
+
+        FilterUtil.applyFilters(Arrays.asList(filter, new ConcurrentFilter() {
+        }), model);
+
+        assertEquals(500, visited.size());
+        assertEquals(IntStream.range(0, 250).mapToObj(i -> "/path" + (i * 2)).collect(Collectors.toList()),
+                new ArrayList<>(model.getPaths().getPathItems().keySet()));
+        assertEquals(Collections.singleton("keep"), shared.getProperties().keySet());
+    }
+
+    @Test
+    void testApplyConcurrentFilterSharedResponse() {
+        APIResponse shared = OASFactory.createAPIResponse()
+                .description("shared")
+                .content(OASFactory.createContent().addMediaType("application/json",
+                        OASFactory.createMediaType().schema(OASFactory.createSchema().description("drop"))));
+        OpenAPI model = OASFactory.createOpenAPI()
+                .paths(OASFactory.createPaths())
+                .components(OASFactory.createComponents().addResponse("Shared", shared));
+
+        for (int i = 0; i < 50; i++) {
+            model.getPaths().addPathItem("/path" + i, OASFactory.createPathItem()
+                    .GET(OASFactory.createOperation().operationId("op" + i)
+                            .responses(OASFactory.createAPIResponses().addAPIResponse("200", shared))));
+        }
+
+        List<Schema> seen = Collections.synchronizedList(new ArrayList<>());
+        ConcurrentFilter filter = new ConcurrentFilter() {
+            @Override
+            public Schema filterSchema(Schema schema) {
+                if ("drop".equals(schema.getDescription())) {
+                    // Leave other tasks reaching the response time to observe the schema
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return null;
+                }
+                return schema;
+            }
+
+            @Override
+            public APIResponse filterAPIResponse(APIResponse response) {
+                if (response == shared) {
+                    seen.add(response.getContent().getMediaType("application/json").getSchema());
+                }
+                return response;
+            }
+        };
+
+        FilterUtil.applyFilters(Collections.singletonList(filter), model);
+
+        // The response is filtered once for each occurrence, always after its schema was removed
+        assertEquals(51, seen.size());
+        assertEquals(Collections.nCopies(51, null), seen);
+        assertEquals(50, model.getPaths().getPathItems().size());
+    }
+
     /**
      * Creates and returns the filter to use for the test.
      */
@@ -1,16 +1,26 @@
 package io.smallrye.openapi.api.util;
 
 import static io.smallrye.openapi.runtime.scanner.IndexScannerTestBase.loadResource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.net.URL;
 import java.text.ParseException;
 
 import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.json.JSONException;
 import org.junit.jupiter.api.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
 
+import io.smallrye.openapi.api.models.OperationImpl;
+import io.smallrye.openapi.api.models.media.ContentImpl;
+import io.smallrye.openapi.api.models.media.MediaTypeImpl;
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+import io.smallrye.openapi.api.models.parameters.RequestBodyImpl;
 import io.smallrye.openapi.runtime.io.Format;
 import io.smallrye.openapi.runtime.io.OpenApiParser;
 import io.smallrye.openapi.runtime.io.OpenApiSerializer;
@@ -149,4 +159,30 @@ class MergeUtilTest {
     void testMerge_EmptyQueryParam() throws IOException, ParseException, JSONException {
         doTest("_pathEmpty/pathEmpty1.json", "_pathEmpty/pathEmpty2.json", "_pathEmpty/merged.json");
     }
+
+    @Test
+    void testCopyObjectRetainsSchemaState() throws IOException, ParseException, JSONException {
+        URL resourceUrl = MergeUtilTest.class.getResource("_callbacks/callbacks1.json");
+        OpenAPI model = OpenApiParser.parse(resourceUrl);
+        OpenAPI copy = MergeUtil.copyObject(model);
+
+        assertNotSame(model, copy);
+        assertNotSame(model.getPaths(), copy.getPaths());
+        assertJsonEquals(OpenApiSerializer.serialize(model, Format.JSON), OpenApiSerializer.serialize(copy, Format.JSON));
+
+        SchemaImpl named = new SchemaImpl("Named");
+        named.setType(Schema.SchemaType.OBJECT);
+        named.addProperty("nested", new SchemaImpl("Nested").type(Schema.SchemaType.STRING));
+        Operation operation = new OperationImpl().requestBody(new RequestBodyImpl()
+                .content(new ContentImpl().addMediaType("application/json", new MediaTypeImpl().schema(named))));
+
+        Schema copied = MergeUtil.copyObject(operation).getRequestBody().getContent().getMediaType("application/json")
+                .getSchema();
+
+        assertNotSame(named, copied);
+        assertTrue(SchemaImpl.isNamed(copied));
+        assertEquals(SchemaImpl.getModCount(named), SchemaImpl.getModCount(copied));
+        assertNotSame(named.getProperties().get("nested"), copied.getProperties().get("nested"));
+        assertTrue(SchemaImpl.isNamed(copied.getProperties().get("nested")));
+    }
 }
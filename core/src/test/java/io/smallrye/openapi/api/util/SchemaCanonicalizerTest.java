@@ -0,0 +1,125 @@
+package io.smallrye.openapi.api.util;
+
+import static org.eclipse.microprofile.openapi.OASFactory.createAPIResponse;
+import static org.eclipse.microprofile.openapi.OASFactory.createAPIResponses;
+import static org.eclipse.microprofile.openapi.OASFactory.createComponents;
+import static org.eclipse.microprofile.openapi.OASFactory.createContent;
+import static org.eclipse.microprofile.openapi.OASFactory.createMediaType;
+import static org.eclipse.microprofile.openapi.OASFactory.createOpenAPI;
+import static org.eclipse.microprofile.openapi.OASFactory.createOperation;
+import static org.eclipse.microprofile.openapi.OASFactory.createPathItem;
+import static org.eclipse.microprofile.openapi.OASFactory.createPaths;
+import static org.eclipse.microprofile.openapi.OASFactory.createSchema;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.eclipse.microprofile.openapi.models.media.Schema.SchemaType;
+import org.junit.jupiter.api.Test;
+
+class SchemaCanonicalizerTest {
+
+    static Schema dateTime() {
+        return createSchema().type(SchemaType.STRING).format("date-time");
+    }
+
+    static Schema dataArray() {
+        return createSchema().type(SchemaType.ARRAY).items(createSchema().ref("Data"));
+    }
+
+    static Schema event() {
+        return createSchema().type(SchemaType.OBJECT)
+                .addProperty("timestamp", dateTime())
+                .addProperty("data", dataArray());
+    }
+
+    static OpenAPI model(Supplier<Schema> responseSchema) {
+        return createOpenAPI()
+                .paths(createPaths()
+                        .addPathItem("/a", createPathItem().GET(createOperation().responses(createAPIResponses()
+                                .addAPIResponse("200", createAPIResponse().content(createContent()
+                                        .addMediaType("application/json", createMediaType().schema(responseSchema.get())))))))
+                        .addPathItem("/b", createPathItem().GET(createOperation().responses(createAPIResponses()
+                                .addAPIResponse("200", createAPIResponse().content(createContent()
+                                        .addMediaType("application/json", createMediaType().schema(responseSchema.get()))))))))
+                .components(createComponents()
+                        .addSchema("Data", createSchema().type(SchemaType.OBJECT)
+                                .addProperty("created", dateTime())
+                                .addProperty("updated", dateTime().description("Last update"))
+                                .addProperty("related", dataArray())));
+    }
+
+    static Schema responseSchema(OpenAPI model, String path) {
+        return model.getPaths().getPathItem(path).getGET().getResponses().getAPIResponse("200")
+                .getContent().getMediaType("application/json").getSchema();
+    }
+
+    @Test
+    void testIdenticalSchemasShared() {
+        OpenAPI model = FilterUtil.applyFilter(new SchemaCanonicalizer(false), model(SchemaCanonicalizerTest::event));
+
+        Schema a = responseSchema(model, "/a");
+        Schema b = responseSchema(model, "/b");
+        Schema data = model.getComponents().getSchemas().get("Data");
+
+        assertSame(a, b);
+        assertSame(a.getProperties().get("timestamp"), data.getProperties().get("created"));
+        assertSame(a.getProperties().get("data"), data.getProperties().get("related"));
+        assertNotSame(data.getProperties().get("created"), data.getProperties().get("updated"));
+        assertEquals(1, model.getComponents().getSchemas().size());
+    }
+
+    @Test
+    void testRepeatedInlineSchemasPromoted() {
+        OpenAPI model = FilterUtil.applyFilter(new SchemaCanonicalizer(true),
+                model(() -> event().title("Event")));
+
+        assertEquals("#/components/schemas/Event", responseSchema(model, "/a").getRef());
+        assertSame(responseSchema(model, "/a"), responseSchema(model, "/b"));
+
+        Schema promoted = model.getComponents().getSchemas().get("Event");
+        assertEquals(SchemaType.OBJECT, promoted.getType());
+        assertNull(promoted.getRef());
+        assertEquals("date-time", promoted.getProperties().get("timestamp").getFormat());
+    }
+
+    @Test
+    void testPromotedSchemaWithoutTitle() {
+        OpenAPI model = FilterUtil.applyFilter(new SchemaCanonicalizer(true), model(SchemaCanonicalizerTest::event));
+
+        assertEquals("#/components/schemas/InlineSchema1", responseSchema(model, "/a").getRef());
+        // Simple schemas are shared, but not promoted
+        assertEquals(2, model.getComponents().getSchemas().size());
+    }
+
+    @Test
+    void testPropertyOrderKept() {
+        Schema timestampFirst = event();
+        Schema dataFirst = createSchema().type(SchemaType.OBJECT)
+                .addProperty("data", dataArray())
+                .addProperty("timestamp", dateTime());
+        OpenAPI model = createOpenAPI().components(createComponents()
+                .addSchema("Holder", createSchema().type(SchemaType.OBJECT)
+                        .addProperty("timestampFirst", timestampFirst)
+                        .addProperty("dataFirst", dataFirst)));
+
+        FilterUtil.applyFilter(new SchemaCanonicalizer(false), model);
+
+        Map<String, Schema> properties = model.getComponents().getSchemas().get("Holder").getProperties();
+        Schema first = properties.get("timestampFirst");
+        Schema second = properties.get("dataFirst");
+        // Schemas differing only in the order of their properties are not shared
+        assertNotSame(first, second);
+        assertEquals(Arrays.asList("timestamp", "data"), new ArrayList<>(first.getProperties().keySet()));
+        assertEquals(Arrays.asList("data", "timestamp"), new ArrayList<>(second.getProperties().keySet()));
+        assertSame(first.getProperties().get("data"), second.getProperties().get("data"));
+    }
+}
@@ -0,0 +1,95 @@
+package io.smallrye.openapi.runtime.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.openapi.OASFilter;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.SmallRyeOpenAPI;
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+import jdk.jfr.Enabled;
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class OpenApiEventsTest {
+
+    @Schema(name = "Widget")
+    static class Widget {
+        String name;
+    }
+
+    static class NoOpFilter implements OASFilter {
+    }
+
+    @Test
+    void testEventsRecorded() throws Exception {
+        Path dump = Files.createTempFile("openapi-events", ".jfr");
+        List<RecordedEvent> events;
+
+        try (Recording recording = new Recording()) {
+            for (String name : new String[] { "ScanPhase", "SchemaRegistration", "Filter", "Serialize" }) {
+                recording.enable("io.smallrye.openapi." + name).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+
+            SmallRyeOpenAPI result = SmallRyeOpenAPI.builder()
+                    .withConfig(IndexScannerTestBase.config(Collections.emptyMap()))
+                    .withIndex(IndexScannerTestBase.indexOf(Widget.class))
+                    .addFilter(new NoOpFilter())
+                    .build();
+            String json = result.toJSON();
+
+            recording.stop();
+            recording.dump(dump);
+            events = RecordingFile.readAllEvents(dump);
+
+            assertTrue(events.stream()
+                    .filter(e -> e.getEventType().getName().equals("io.smallrye.openapi.Serialize"))
+                    .anyMatch(e -> e.getString("format").equals("JSON") && e.getLong("length") == json.length()));
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+
+        Set<String> phases = events.stream()
+                .filter(e -> e.getEventType().getName().equals("io.smallrye.openapi.ScanPhase"))
+                .map(e -> e.getString("phase"))
+                .collect(Collectors.toSet());
+        assertTrue(phases.containsAll(List.of("static-files", "annotations", "initialize", "write")), phases::toString);
+
+        RecordedEvent registration = events.stream()
+                .filter(e -> e.getEventType().getName().equals("io.smallrye.openapi.SchemaRegistration"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("Widget", registration.getString("schemaName"));
+        assertEquals(Widget.class.getName(), registration.getString("type"));
+
+        assertTrue(events.stream()
+                .filter(e -> e.getEventType().getName().equals("io.smallrye.openapi.Filter"))
+                .anyMatch(e -> e.getClass("filterClass").getName().equals(NoOpFilter.class.getName())));
+    }
+
+    @Test
+    void testSchemaRegistrationDisabledByDefault() {
+        EventType type = EventType.getEventType(OpenApiSchemaRegistrationEvent.class);
+        assertEquals("false", type.getSettingDescriptors()
+                .stream()
+                .filter(setting -> setting.getName().equals(Enabled.NAME))
+                .findFirst()
+                .orElseThrow()
+                .getDefaultValue());
+        assertFalse(new OpenApiSchemaRegistrationEvent().isEnabled());
+    }
+}
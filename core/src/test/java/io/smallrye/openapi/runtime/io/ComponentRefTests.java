@@ -0,0 +1,71 @@
+package io.smallrye.openapi.runtime.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.microprofile.openapi.OASFactory;
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import io.smallrye.openapi.runtime.util.ModelUtil;
+
+class ComponentRefTests {
+
+    @ParameterizedTest
+    @CsvSource({
+            "#/components/schemas/MySchema, SCHEMA, MySchema",
+            "#/components/requestBodies/Body.v1, REQUEST_BODY, Body.v1",
+            "#/components/securitySchemes/oauth/, SECURITY_SCHEME, oauth",
+    })
+    void testComponentReference(String ref, ReferenceType type, String name) {
+        ComponentRef parsed = ComponentRef.of(ref);
+
+        assertTrue(parsed.isComponent());
+        assertEquals(type, parsed.getType());
+        assertEquals(name, parsed.getName());
+        assertEquals(ref, parsed.getRef());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "https://www.example.com/openapi#/components/schemas/MySchema",
+            "./additional-schemas.json",
+            "#/components/unknown/MySchema",
+            "#/MySchema",
+            "#",
+    })
+    void testNonComponentReference(String ref) {
+        ComponentRef parsed = ComponentRef.of(ref);
+
+        assertFalse(parsed.isComponent());
+        assertNull(parsed.getType());
+        assertNull(parsed.getName());
+    }
+
+    @Test
+    void testReferencesInterned() {
+        assertSame(ComponentRef.of("#/components/schemas/Interned"),
+                ComponentRef.of(new StringBuilder("#/components/schemas/").append("Interned").toString()));
+    }
+
+    @Test
+    void testComponentLookupFollowsChanges() {
+        OpenAPI openApi = OASFactory.createOpenAPI().components(OASFactory.createComponents());
+        Schema schema = OASFactory.createSchema();
+
+        assertNull(ModelUtil.getComponent(openApi, "#/components/schemas/MySchema"));
+
+        openApi.getComponents().addSchema("MySchema", schema);
+        assertSame(schema, ModelUtil.getComponent(openApi, "#/components/schemas/MySchema"));
+        assertNull(ModelUtil.getComponent(openApi, "#/components/responses/MySchema"));
+
+        openApi.getComponents().removeSchema("MySchema");
+        assertNull(ModelUtil.getComponent(openApi, "#/components/schemas/MySchema"));
+    }
+}
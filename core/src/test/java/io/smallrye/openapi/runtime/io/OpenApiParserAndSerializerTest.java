@@ -7,10 +7,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringReader;
+import java.io.StringWriter;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -92,6 +94,14 @@ class OpenApiParserAndSerializerTest {
         return tempFile;
     }
 
+    private static <V, A extends V, O extends V, AB, OB> String write(OpenAPI model, Format format,
+            JsonIO<V, A, O, AB, OB> jsonIO) throws IOException {
+        V node = new OpenAPIDefinitionIO<>(IOContext.forJson(jsonIO)).write(model).orElseThrow(IOException::new);
+        StringWriter writer = new StringWriter();
+        jsonIO.write(node, format, writer);
+        return writer.toString();
+    }
+
     /**
      * Performs a full round-trip parse+serialize test on a single resource.
      *
@@ -596,4 +606,30 @@ class OpenApiParserAndSerializerTest {
         String yaml = OpenApiSerializer.serialize(doc, Format.YAML);
         assertYamlEquals("x-foo: bar", yaml);
     }
+
+    @Test
+    void testStreamingWriterJsonBackendsEquivalent() throws Exception {
+        StringBuilder contents = new StringBuilder();
+        contents.append(loadResource(OpenApiParserAndSerializerTest.class.getResource("openapi-fragment-header.yaml")));
+        String bodyChunk = loadResource(OpenApiParserAndSerializerTest.class.getResource("openapi-fragment-body.yaml"));
+        for (int i = 0; i < 64; i++) {
+            contents.append(bodyChunk.replaceAll("@@ID@@", String.valueOf(i)));
+        }
+        contents.append(loadResource(OpenApiParserAndSerializerTest.class.getResource("openapi-fragment-footer.yaml")));
+        byte[] bytes = contents.toString().getBytes(StandardCharsets.UTF_8);
+        OpenAPI model = OpenApiParser.parse(new ByteArrayInputStream(bytes), Format.YAML, null);
+
+        JacksonJsonIO jackson = new JacksonJsonIO();
+        JakartaJsonIO jakarta = new JakartaJsonIO();
+
+        String expected = OpenApiSerializer.serialize(model, Format.JSON);
+        assertJsonEquals(expected, write(model, Format.JSON, jackson));
+        assertJsonEquals(expected, write(model, Format.JSON, jakarta));
+
+        for (String yaml : new String[] { write(model, Format.YAML, jackson), write(model, Format.YAML, jakarta) }) {
+            OpenAPI parsed = OpenApiParser.parse(new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)),
+                    Format.YAML, null);
+            assertJsonEquals(expected, OpenApiSerializer.serialize(parsed, Format.JSON));
+        }
+    }
 }
@@ -1,9 +1,11 @@
 package io.smallrye.openapi.runtime.io.schema;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
@@ -44,6 +46,27 @@ class SchemaFactoryTest extends IndexScannerTestBase {
         assertNull(result.getType());
     }
 
+    @Test
+    void testCollectionSchemaReused() {
+        Index index = indexOf(new Class[0]);
+        AnnotationScannerContext context = new AnnotationScannerContext(index, ClassLoaderUtil.getDefaultClassLoader(),
+                emptyConfig());
+        Type type = ParameterizedType.create(DotName.createSimple(List.class.getName()),
+                new Type[] { Type.create(DotName.createSimple(String.class.getName()), Type.Kind.CLASS) },
+                null);
+
+        Schema first = SchemaFactory.typeToSchema(context, type, null, Collections.emptyList());
+        first.getItems().setDescription("Modified by the caller");
+        Schema second = SchemaFactory.typeToSchema(context, type, null, Collections.emptyList());
+
+        assertNotSame(first, second);
+        assertEquals(Schema.SchemaType.ARRAY, second.getType());
+        assertEquals(Schema.SchemaType.STRING, second.getItems().getType());
+        assertNull(second.getItems().getDescription());
+        assertEquals(1, context.getTypeSchemaMisses());
+        assertEquals(1, context.getTypeSchemaHits());
+    }
+
     @Test
     void testParseSchemaType() {
         for (SchemaType type : SchemaType.values()) {
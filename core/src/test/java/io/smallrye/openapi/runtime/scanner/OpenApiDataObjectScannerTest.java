@@ -3,8 +3,21 @@ package io.smallrye.openapi.runtime.scanner;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
 import org.eclipse.microprofile.openapi.models.media.Schema;
@@ -18,6 +31,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import com.fasterxml.jackson.annotation.JsonView;
+
+import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.OpenApiConfigImpl;
+import io.smallrye.openapi.api.SmallRyeOASConfig;
+import io.smallrye.openapi.runtime.io.Format;
+import io.smallrye.openapi.runtime.io.OpenApiSerializer;
+import io.smallrye.openapi.runtime.scanner.dataobject.IgnoreResolver;
 import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
 
 class OpenApiDataObjectScannerTest {
@@ -83,4 +104,203 @@ class OpenApiDataObjectScannerTest {
                 () -> assertNull(contextCFirst.getOpenApi().getComponents().getSchemas().get("1N").getRef(), "C first"),
                 () -> assertNull(contextNFirst.getOpenApi().getComponents().getSchemas().get("1N").getRef(), "N first"));
     }
+
+    @Test
+    void testParallelScanMatchesSequentialScan() throws IOException {
+        class Leaf {
+            String name;
+            int count;
+        }
+
+        class Node {
+            Leaf leaf;
+            List<Leaf> leaves;
+            Node next;
+        }
+
+        @org.eclipse.microprofile.openapi.annotations.media.Schema(description = "Aggregate")
+        class Aggregate {
+            Node first;
+            Node second;
+            Map<String, Leaf> leavesByName;
+            Leaf[] leafArray;
+            Optional<Node> optionalNode;
+        }
+
+        IndexView index = Index.of(Aggregate.class, Node.class, Leaf.class);
+        Type type = Type.create(DotName.createSimple(Aggregate.class), Kind.CLASS);
+
+        assertEquals(scanToJson(index, type, IndexScannerTestBase.emptyConfig()),
+                scanToJson(index, type,
+                        IndexScannerTestBase.dynamicConfig(SmallRyeOASConfig.SCAN_DATA_OBJECTS_PARALLEL, "true")));
+    }
+
+    /**
+     * Records the properties read by other threads than the scanning thread. Until the
+     * first such read, the scanning thread pauses on each read, so that the workers pick
+     * up the resolutions before the scanning thread joins them, even on a single CPU.
+     */
+    static class ConcurrentReadConfig extends OpenApiConfigImpl {
+        final Thread scanningThread = Thread.currentThread();
+        final Set<String> concurrentReads = ConcurrentHashMap.newKeySet();
+        final AtomicInteger pauses = new AtomicInteger();
+
+        ConcurrentReadConfig(Map<String, String> properties) {
+            super(IndexScannerTestBase.config(properties));
+        }
+
+        @Override
+        public <R, T> T getConfigValue(String propertyName, Class<R> type, Function<R, T> converter,
+                Supplier<T> defaultValue) {
+            if (Thread.currentThread() != scanningThread) {
+                concurrentReads.add(propertyName);
+            } else if (concurrentReads.isEmpty() && pauses.incrementAndGet() <= 500) {
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return super.getConfigValue(propertyName, type, converter, defaultValue);
+        }
+    }
+
+    @Test
+    void testParallelScanWithConfigFillingItsCache() throws IOException {
+        class Leaf {
+            private String name;
+            public int count;
+
+            public String getName() {
+                return name;
+            }
+        }
+
+        class Node {
+            public Leaf leaf;
+            public List<Leaf> leaves;
+            public Node next;
+        }
+
+        class Aggregate {
+            public Node first;
+            public Leaf second;
+            private Node hidden;
+        }
+
+        IndexView index = Index.of(Aggregate.class, Node.class, Leaf.class);
+        Type type = Type.create(DotName.createSimple(Aggregate.class), Kind.CLASS);
+        Map<String, String> properties = new HashMap<>();
+        properties.put(SmallRyeOASConfig.SMALLRYE_PRIVATE_PROPERTIES_ENABLE, "false");
+        properties.put(SmallRyeOASConfig.SMALLRYE_SORTED_PROPERTIES_ENABLE, "true");
+        String expected = scanToJson(index, type, IndexScannerTestBase.dynamicConfig(properties));
+
+        properties.put(SmallRyeOASConfig.SCAN_DATA_OBJECTS_PARALLEL, "true");
+        // No value cached yet, the workers and the scanning thread fill the cache concurrently
+        ConcurrentReadConfig config = new ConcurrentReadConfig(properties);
+
+        assertEquals(expected, scanToJson(index, type, config));
+        assertTrue(config.concurrentReads.contains(SmallRyeOASConfig.SMALLRYE_SORTED_PROPERTIES_ENABLE),
+                () -> "Read by the workers: " + config.concurrentReads);
+    }
+
+    /**
+     * Slows down the resolution of properties on other threads than the scanning thread,
+     * counting the resolutions still running once the scan has returned.
+     */
+    static class SlowResolutionContext extends AnnotationScannerContext {
+        final Thread scanningThread = Thread.currentThread();
+        final AtomicBoolean scanReturned = new AtomicBoolean();
+        final AtomicInteger lateResolutions = new AtomicInteger();
+        final AtomicInteger concurrentViewReads = new AtomicInteger();
+
+        SlowResolutionContext(IndexView index, OpenApiConfig config) {
+            super(index, Thread.currentThread().getContextClassLoader(), config);
+        }
+
+        @Override
+        public IgnoreResolver getIgnoreResolver() {
+            if (Thread.currentThread() != scanningThread) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (scanReturned.get()) {
+                    lateResolutions.incrementAndGet();
+                }
+            }
+            return super.getIgnoreResolver();
+        }
+
+        @Override
+        public Set<Type> getJsonViews() {
+            if (Thread.currentThread() != scanningThread) {
+                concurrentViewReads.incrementAndGet();
+            }
+            return super.getJsonViews();
+        }
+    }
+
+    @Test
+    void testParallelScanSkippingPrefetchedEntries() throws IOException, InterruptedException {
+        class PublicView {
+        }
+
+        class Shared {
+            String name;
+            @JsonView(PublicView.class)
+            String detail;
+        }
+
+        class First {
+            Shared shared;
+        }
+
+        @org.eclipse.microprofile.openapi.annotations.media.Schema(type = SchemaType.STRING)
+        class Code {
+            String c0, c1, c2, c3, c4, c5, c6, c7, c8, c9;
+        }
+
+        class Root {
+            // Registered while scanning First, before the entry of this field is reached
+            Shared shared;
+            First first;
+            // Not an object, the properties resolved ahead are not used
+            Code code;
+        }
+
+        IndexView index = Index.of(Root.class, First.class, Shared.class, Code.class, PublicView.class);
+        Type type = Type.create(DotName.createSimple(Root.class), Kind.CLASS);
+        Type view = Type.create(DotName.createSimple(PublicView.class), Kind.CLASS);
+
+        AnnotationScannerContext sequential = new AnnotationScannerContext(index,
+                Thread.currentThread().getContextClassLoader(), IndexScannerTestBase.emptyConfig());
+        sequential.getJsonViews().add(view);
+        SlowResolutionContext parallel = new SlowResolutionContext(index,
+                IndexScannerTestBase.dynamicConfig(SmallRyeOASConfig.SCAN_DATA_OBJECTS_PARALLEL, "true"));
+        parallel.getJsonViews().add(view);
+
+        Schema expected = OpenApiDataObjectScanner.process(sequential, type);
+        Schema actual = OpenApiDataObjectScanner.process(parallel, type);
+        parallel.scanReturned.set(true);
+        parallel.getJsonViews().clear();
+
+        ForkJoinPool.commonPool().awaitQuiescence(10, TimeUnit.SECONDS);
+        assertEquals(0, parallel.lateResolutions.get());
+        assertEquals(0, parallel.concurrentViewReads.get());
+
+        sequential.getOpenApi().getComponents().addSchema("Root", expected);
+        parallel.getOpenApi().getComponents().addSchema("Root", actual);
+        assertEquals(OpenApiSerializer.serialize(sequential.getOpenApi(), Format.JSON),
+                OpenApiSerializer.serialize(parallel.getOpenApi(), Format.JSON));
+    }
+
+    private static String scanToJson(IndexView index, Type type, OpenApiConfig config) throws IOException {
+        AnnotationScannerContext context = new AnnotationScannerContext(index, Thread.currentThread().getContextClassLoader(),
+                config);
+        Schema schema = OpenApiDataObjectScanner.process(context, type);
+        context.getOpenApi().getComponents().addSchema("Root", schema);
+        return OpenApiSerializer.serialize(context.getOpenApi(), Format.JSON);
+    }
 }
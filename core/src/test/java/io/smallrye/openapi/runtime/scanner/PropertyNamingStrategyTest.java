@@ -8,6 +8,7 @@ import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.UnaryOperator;
 
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
@@ -21,6 +22,7 @@ import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import io.smallrye.openapi.api.SmallRyeOASConfig;
 import io.smallrye.openapi.api.constants.JsonbConstants;
 import io.smallrye.openapi.runtime.OpenApiRuntimeException;
+import io.smallrye.openapi.runtime.scanner.dataobject.PropertyNamingStrategyFactory;
 
 class PropertyNamingStrategyTest extends IndexScannerTestBase {
 
@@ -69,6 +71,20 @@ class PropertyNamingStrategyTest extends IndexScannerTestBase {
         assertThrows(OpenApiRuntimeException.class, () -> scan(config, NameStrategyBean3.class));
     }
 
+    @Test
+    void testTranslationsRemembered() {
+        UnaryOperator<String> strategy = PropertyNamingStrategyFactory.getStrategy(
+                "com.fasterxml.jackson.databind.PropertyNamingStrategies$SnakeCaseStrategy",
+                Thread.currentThread().getContextClassLoader());
+
+        // Exceeds the size of the memo, translations remain correct once it is cleared
+        for (int pass = 0; pass < 2; pass++) {
+            for (int i = 0; i < 5000; i++) {
+                assertEquals("property" + i + "_name", strategy.apply("property" + i + "Name"));
+            }
+        }
+    }
+
     @ParameterizedTest(name = "testJsonbConstantStrategy-{0}")
     @CsvSource({
             JsonbConstants.IDENTITY + ", simpleStringOne|anotherField|Y|z",
@@ -9,6 +9,7 @@ import org.eclipse.microprofile.openapi.annotations.media.SchemaProperty;
 import org.jboss.jandex.Index;
 import org.junit.jupiter.api.Test;
 
+import io.smallrye.openapi.api.ScanSession;
 import io.smallrye.openapi.api.SmallRyeOpenAPI;
 
 class SchemaPropertyTest extends IndexScannerTestBase {
@@ -25,6 +26,21 @@ class SchemaPropertyTest extends IndexScannerTestBase {
         assertJsonEquals("components.schemas.schemaproperty-merge.json", result1.model());
     }
 
+    @Test
+    void testClassSchemaPropertyMergesWithFieldSchemasInScanSession() throws Exception {
+        ScanSession session = new ScanSession(
+                indexOf(Reptile.class, Lizard.class, Snake.class, Turtle.class, LengthUnits.class, Speed.class));
+
+        for (int i = 0; i < 2; i++) {
+            SmallRyeOpenAPI result = SmallRyeOpenAPI.builder()
+                    .withConfig(config(Collections.emptyMap()))
+                    .withScanSession(session)
+                    .defaultRequiredProperties(false)
+                    .build();
+            assertJsonEquals("components.schemas.schemaproperty-merge.json", result.model());
+        }
+    }
+
     /****************************************************************/
 
     @Schema(discriminatorProperty = "type", discriminatorMapping = {
@@ -802,4 +802,41 @@ class BeanValidationScannerTest extends IndexScannerTestBase {
         testTarget.pattern(targetField, schema);
         assertEquals(expectedPattern, schema.getPattern());
     }
+
+    @Test
+    void testJavaxStringConstraintsApplied() {
+        testStringConstraintsApplied(javaxTargetClass.field("stringNotEmptySizeRange"));
+    }
+
+    @Test
+    void testJakartaStringConstraintsApplied() {
+        testStringConstraintsApplied(jakartaTargetClass.field("stringNotEmptySizeRange"));
+    }
+
+    void testStringConstraintsApplied(FieldInfo targetField) {
+        Schema parentSchema = new SchemaImpl();
+        String propertyKey = "stringNotEmptySizeRange";
+        schema.setType(SchemaType.STRING);
+
+        testTarget.applyConstraints(targetField, schema, propertyKey, requirementHandler(parentSchema));
+        // Applying the same target a second time uses the class's cached constraint table
+        testTarget.applyConstraints(targetField, schema, propertyKey, requirementHandler(parentSchema));
+
+        assertEquals(100, schema.getMinLength());
+        assertEquals(2000, schema.getMaxLength());
+        assertNull(schema.getMinItems());
+        assertEquals(Arrays.asList(propertyKey), parentSchema.getRequired());
+    }
+
+    @Test
+    void testConstraintsWithoutTarget() {
+        Schema parentSchema = new SchemaImpl();
+        schema.setType(SchemaType.STRING);
+
+        testTarget.applyConstraints(null, schema, "unannotated", requirementHandler(parentSchema));
+
+        assertNull(schema.getMinLength());
+        assertNull(schema.getMaxLength());
+        assertNull(parentSchema.getRequired());
+    }
 }
@@ -0,0 +1,101 @@
+package io.smallrye.openapi.runtime.scanner.dataobject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.eclipse.microprofile.openapi.models.media.Schema;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.Type;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.api.models.media.SchemaImpl;
+
+class DataObjectDequeTest {
+
+    static class A {
+    }
+
+    static class B {
+    }
+
+    static class C {
+    }
+
+    static class Box<T> {
+    }
+
+    static Type type(Class<?> clazz) {
+        return Type.create(DotName.createSimple(clazz), Type.Kind.CLASS);
+    }
+
+    static Type box(Class<?> argument) {
+        return ParameterizedType.create(DotName.createSimple(Box.class), new Type[] { type(argument) }, null);
+    }
+
+    static DataObjectDeque deque(Type rootType) throws IOException {
+        AugmentedIndexView index = AugmentedIndexView.augment(Index.of(A.class, B.class, C.class, Box.class));
+        DataObjectDeque deque = new DataObjectDeque(index);
+        deque.push(deque.rootNode(null, index.getClass(rootType), rootType, new SchemaImpl()));
+        return deque;
+    }
+
+    static DataObjectDeque.PathEntry push(DataObjectDeque deque, DataObjectDeque.PathEntry parent, Type type,
+            Schema schema) {
+        int size = deque.size();
+        deque.push(null, parent, type, schema);
+        return deque.size() > size ? deque.peek() : null;
+    }
+
+    @Test
+    void testCycleDetected() throws IOException {
+        DataObjectDeque deque = deque(type(A.class));
+        DataObjectDeque.PathEntry a = deque.pop();
+
+        push(deque, a, type(B.class), new SchemaImpl());
+        DataObjectDeque.PathEntry b = deque.pop();
+
+        Schema cyclic = new SchemaImpl();
+        assertNull(push(deque, b, type(A.class), cyclic));
+        assertEquals("Cyclic reference to " + A.class.getName(), cyclic.getDescription());
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    void testSiblingsNotCyclic() throws IOException {
+        DataObjectDeque deque = deque(type(A.class));
+        DataObjectDeque.PathEntry a = deque.pop();
+
+        push(deque, a, type(C.class), new SchemaImpl());
+        push(deque, a, type(B.class), new SchemaImpl());
+
+        DataObjectDeque.PathEntry b = deque.pop();
+        DataObjectDeque.PathEntry bc = push(deque, b, type(C.class), new SchemaImpl());
+        assertSame(bc, deque.pop());
+
+        // B's subtree is complete, B is no longer an enclosing entry of its sibling C
+        DataObjectDeque.PathEntry c = deque.pop();
+        assertEquals(type(C.class), c.getClazzType());
+        assertNotNull(push(deque, c, type(B.class), new SchemaImpl()));
+        assertNull(push(deque, c, type(A.class), new SchemaImpl()));
+    }
+
+    @Test
+    void testParameterizedTypeArguments() throws IOException {
+        DataObjectDeque deque = deque(box(A.class));
+        DataObjectDeque.PathEntry boxA = deque.pop();
+
+        DataObjectDeque.PathEntry boxB = push(deque, boxA, box(B.class), new SchemaImpl());
+        assertSame(boxB, deque.pop());
+
+        assertNull(push(deque, boxB, box(A.class), new SchemaImpl()));
+        assertNull(push(deque, boxB, type(Box.class), new SchemaImpl()));
+        assertNotNull(push(deque, boxB, box(C.class), new SchemaImpl()));
+    }
+}
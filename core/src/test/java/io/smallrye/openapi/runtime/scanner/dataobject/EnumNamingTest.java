@@ -1,14 +1,23 @@
 package io.smallrye.openapi.runtime.scanner.dataobject;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.Index;
+import org.jboss.jandex.Type;
 import org.junit.jupiter.api.Test;
 
 import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
 import io.smallrye.openapi.runtime.scanner.OpenApiAnnotationScanner;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
 
 class EnumNamingTest extends IndexScannerTestBase {
 
@@ -65,6 +74,21 @@ class EnumNamingTest extends IndexScannerTestBase {
         test(Bean.class, DaysOfWeekProperty.class);
     }
 
+    @Test
+    void testEnumConstantsComputedOnce() throws Exception {
+        Index index = indexOf(DaysOfWeekProperty.class);
+        AnnotationScannerContext context = new AnnotationScannerContext(index,
+                Thread.currentThread().getContextClassLoader(), emptyConfig());
+        Type enumType = Type.create(DotName.createSimple(DaysOfWeekProperty.class), Type.Kind.CLASS);
+
+        List<Object> constants = EnumProcessor.enumConstants(context, enumType);
+
+        assertEquals(Arrays.asList("Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday", "Sunday"),
+                constants);
+        assertSame(constants, EnumProcessor.enumConstants(context, enumType));
+        assertThrows(UnsupportedOperationException.class, () -> constants.add("Someday"));
+    }
+
     @Schema(name = "DaysOfWeek")
     enum DaysOfWeekDefault {
         Monday,
@@ -0,0 +1,58 @@
+package io.smallrye.openapi.runtime.scanner.dataobject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
+
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+
+class IgnoreResolverTest {
+
+    @JsonIgnoreProperties({ "b", "c" })
+    static class IgnoresProperties {
+        String a;
+        String b;
+        String c;
+    }
+
+    @JsonIgnoreType
+    static class IgnoredType {
+    }
+
+    @Test
+    void testClassIgnoresComputedOnce() throws IOException {
+        Index index = Index.of(IgnoresProperties.class, IgnoredType.class);
+        AnnotationScannerContext context = new AnnotationScannerContext(index,
+                Thread.currentThread().getContextClassLoader(), IndexScannerTestBase.emptyConfig());
+        IgnoreResolver resolver = context.getIgnoreResolver();
+
+        ClassInfo ignoresProperties = index.getClassByName(DotName.createSimple(IgnoresProperties.class));
+        IgnoreResolver.ClassIgnores ignores = resolver.classIgnores(ignoresProperties);
+
+        assertSame(ignores, resolver.classIgnores(ignoresProperties));
+        assertEquals(new HashSet<>(Arrays.asList("b", "c")), ignores.ignoredProperties);
+        assertFalse(ignores.ignoredType);
+
+        IgnoreResolver.ClassIgnores typeIgnores = resolver
+                .classIgnores(index.getClassByName(DotName.createSimple(IgnoredType.class)));
+        assertNull(typeIgnores.ignoredProperties);
+        assertTrue(typeIgnores.ignoredType);
+
+        assertSame(IgnoreResolver.ClassIgnores.NONE, resolver.classIgnores(null));
+    }
+}
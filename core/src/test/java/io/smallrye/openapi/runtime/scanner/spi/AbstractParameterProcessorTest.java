@@ -0,0 +1,143 @@
+package io.smallrye.openapi.runtime.scanner.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.MethodInfo;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+import io.smallrye.openapi.runtime.scanner.ResourceParameters;
+
+class AbstractParameterProcessorTest {
+
+    static class Resource {
+        public void outer() {
+        }
+
+        public void inner() {
+        }
+    }
+
+    /**
+     * Records the processor used for each method, the method named "outer" processes
+     * the method named "inner" while it is itself being processed.
+     */
+    static class RecordingProcessor extends AbstractParameterProcessor {
+        static final List<AbstractParameterProcessor> used = new ArrayList<>();
+
+        static ResourceParameters process(AnnotationScannerContext context, ClassInfo resourceClass, String methodName) {
+            return processReusable(RecordingProcessor.class, RecordingProcessor::new, context, null, a -> null,
+                    Collections.emptyList(), resourceClass, resourceClass.firstMethod(methodName));
+        }
+
+        @Override
+        protected ResourceParameters process(ClassInfo resourceClass, MethodInfo resourceMethod) {
+            used.add(this);
+
+            if (resourceMethod.name().equals("outer")) {
+                process(scannerContext, resourceClass, "inner");
+                // The nested method must not have unbound the enclosing method's processor
+                assertNotNull(scannerContext);
+                assertNotNull(index);
+            }
+
+            return new ResourceParameters();
+        }
+
+        @Override
+        protected Pattern getTemplateParameterPattern() {
+            return null;
+        }
+
+        @Override
+        protected FrameworkParameter getMatrixParameter() {
+            return null;
+        }
+
+        @Override
+        protected void readAnnotatedType(AnnotationInstance annotation, AnnotationInstance beanParamAnnotation,
+                boolean overriddenParametersOnly) {
+        }
+
+        @Override
+        protected String pathOf(AnnotationTarget target) {
+            return null;
+        }
+
+        @Override
+        protected boolean isSubResourceLocator(MethodInfo method) {
+            return false;
+        }
+
+        @Override
+        protected boolean isResourceMethod(MethodInfo method) {
+            return false;
+        }
+
+        @Override
+        protected boolean isParameter(DotName annotationName) {
+            return false;
+        }
+    }
+
+    private static AnnotationScannerContext context(Index index) {
+        return new AnnotationScannerContext(index, Thread.currentThread().getContextClassLoader(),
+                IndexScannerTestBase.emptyConfig());
+    }
+
+    @Test
+    void testProcessorReusedWithinScan() {
+        Index index = IndexScannerTestBase.indexOf(Resource.class);
+        ClassInfo resourceClass = index.getClassByName(Resource.class);
+        AnnotationScannerContext context = context(index);
+        RecordingProcessor.used.clear();
+
+        RecordingProcessor.process(context, resourceClass, "inner");
+        RecordingProcessor.process(context, resourceClass, "inner");
+
+        assertEquals(2, RecordingProcessor.used.size());
+        AbstractParameterProcessor processor = RecordingProcessor.used.get(0);
+        assertSame(processor, RecordingProcessor.used.get(1));
+        assertSame(processor, context.getParameterProcessor(RecordingProcessor.class, RecordingProcessor::new));
+        // Unbound from the method once processed
+        assertNull(processor.scannerContext);
+
+        // Another scan uses its own processor
+        RecordingProcessor.process(context(index), resourceClass, "inner");
+        assertNotSame(processor, RecordingProcessor.used.get(2));
+    }
+
+    @Test
+    void testNestedProcessingUsesNewProcessor() {
+        Index index = IndexScannerTestBase.indexOf(Resource.class);
+        ClassInfo resourceClass = index.getClassByName(Resource.class);
+        AnnotationScannerContext context = context(index);
+        RecordingProcessor.used.clear();
+
+        RecordingProcessor.process(context, resourceClass, "outer");
+
+        assertEquals(2, RecordingProcessor.used.size());
+        AbstractParameterProcessor outer = RecordingProcessor.used.get(0);
+        assertNotSame(outer, RecordingProcessor.used.get(1));
+        assertNull(outer.scannerContext);
+        assertNull(RecordingProcessor.used.get(1).scannerContext);
+
+        // The scan's processor is available again after the enclosing method
+        RecordingProcessor.process(context, resourceClass, "inner");
+        assertSame(outer, RecordingProcessor.used.get(2));
+    }
+}
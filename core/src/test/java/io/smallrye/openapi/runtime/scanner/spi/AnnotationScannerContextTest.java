@@ -0,0 +1,77 @@
+package io.smallrye.openapi.runtime.scanner.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+
+class AnnotationScannerContextTest {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Trigger {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface OtherTrigger {
+    }
+
+    @Trigger
+    static class AnnotatedClass {
+    }
+
+    static class AnnotatedMethods {
+        @Trigger
+        void first() {
+        }
+
+        @Trigger
+        void second() {
+        }
+    }
+
+    static class AnnotatedField {
+        @Trigger
+        String value;
+    }
+
+    @OtherTrigger
+    static class OtherAnnotatedClass {
+    }
+
+    static class Plain {
+    }
+
+    @Test
+    void testCandidateClasses() {
+        Index index = IndexScannerTestBase.indexOf(Trigger.class, OtherTrigger.class, AnnotatedClass.class,
+                AnnotatedMethods.class, AnnotatedField.class, OtherAnnotatedClass.class, Plain.class);
+        AnnotationScannerContext context = new AnnotationScannerContext(index,
+                Thread.currentThread().getContextClassLoader(), IndexScannerTestBase.emptyConfig());
+        List<DotName> triggers = Collections.singletonList(DotName.createSimple(Trigger.class));
+
+        Set<ClassInfo> candidates = context.getCandidateClasses(triggers);
+        assertEquals(new HashSet<>(Arrays.asList(index.getClassByName(AnnotatedClass.class),
+                index.getClassByName(AnnotatedMethods.class))), candidates);
+
+        // Computed once for the same annotations
+        assertSame(candidates, context.getCandidateClasses(Collections.singleton(DotName.createSimple(Trigger.class))));
+
+        assertEquals(3, context.getCandidateClasses(Arrays.asList(DotName.createSimple(Trigger.class),
+                DotName.createSimple(OtherTrigger.class))).size());
+        assertTrue(context.getCandidateClasses(Collections.singletonList(DotName.createSimple(Deprecated.class))).isEmpty());
+    }
+}
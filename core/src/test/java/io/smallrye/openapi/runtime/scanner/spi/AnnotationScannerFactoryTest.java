@@ -0,0 +1,145 @@
+package io.smallrye.openapi.runtime.scanner.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.MethodInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
+import io.smallrye.openapi.runtime.scanner.ResourceParameters;
+
+class AnnotationScannerFactoryTest {
+
+    private static final String SERVICE = "META-INF/services/" + AnnotationScanner.class.getName();
+
+    public static class FirstScanner implements AnnotationScanner {
+        @Override
+        public String getName() {
+            return "First";
+        }
+
+        @Override
+        public OpenAPI scan(AnnotationScannerContext annotationScannerContext, OpenAPI oai) {
+            return oai;
+        }
+
+        @Override
+        public boolean isAsyncResponse(MethodInfo method) {
+            return false;
+        }
+
+        @Override
+        public boolean isPostMethod(MethodInfo method) {
+            return false;
+        }
+
+        @Override
+        public boolean isDeleteMethod(MethodInfo method) {
+            return false;
+        }
+
+        @Override
+        public boolean containsScannerAnnotations(List<AnnotationInstance> instances,
+                List<AnnotationScannerExtension> extensions) {
+            return false;
+        }
+
+        @Override
+        public void setContextRoot(String path) {
+        }
+
+        @Override
+        public String[] getDefaultConsumes(AnnotationScannerContext context, MethodInfo methodInfo,
+                ResourceParameters params) {
+            return new String[0];
+        }
+
+        @Override
+        public String[] getDefaultProduces(AnnotationScannerContext context, MethodInfo methodInfo) {
+            return new String[0];
+        }
+    }
+
+    public static class SecondScanner extends FirstScanner {
+        @Override
+        public String getName() {
+            return "Second";
+        }
+    }
+
+    /**
+     * Serves the scanner service file and counts how often it is looked up.
+     */
+    static class CountingClassLoader extends ClassLoader {
+        final URL serviceFile;
+        int lookups;
+
+        CountingClassLoader(URL serviceFile) {
+            super(AnnotationScannerFactoryTest.class.getClassLoader());
+            this.serviceFile = serviceFile;
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException {
+            if (SERVICE.equals(name)) {
+                lookups++;
+                return Collections.enumeration(Collections.singletonList(serviceFile));
+            }
+            return super.getResources(name);
+        }
+    }
+
+    private static List<String> names(AnnotationScannerFactory factory) {
+        return factory.getAnnotationScanners().stream().map(AnnotationScanner::getName).collect(Collectors.toList());
+    }
+
+    @Test
+    void testServiceProvidersReadOncePerClassLoader(@TempDir Path dir) throws IOException {
+        Path serviceFile = dir.resolve("services");
+        Files.write(serviceFile, Arrays.asList(SecondScanner.class.getName(), FirstScanner.class.getName()),
+                StandardCharsets.UTF_8);
+        CountingClassLoader loader = new CountingClassLoader(serviceFile.toUri().toURL());
+
+        AnnotationScannerFactory first = new AnnotationScannerFactory(loader);
+        AnnotationScannerFactory second = new AnnotationScannerFactory(loader);
+
+        assertEquals(1, loader.lookups);
+        assertEquals(Arrays.asList("First", "Second"), names(first));
+        assertEquals(Arrays.asList("First", "Second"), names(second));
+        // Scanners hold per-scan state and are not shared between factories
+        assertNotSame(first.getAnnotationScanners().get(0), second.getAnnotationScanners().get(0));
+
+        CountingClassLoader other = new CountingClassLoader(serviceFile.toUri().toURL());
+        new AnnotationScannerFactory(other);
+        assertEquals(1, other.lookups);
+    }
+
+    @Test
+    void testScannerSuppliers() {
+        List<Supplier<AnnotationScanner>> suppliers = Arrays.asList(SecondScanner::new, FirstScanner::new);
+        AnnotationScannerFactory factory = new AnnotationScannerFactory(suppliers);
+
+        assertEquals(Arrays.asList("First", "Second"), names(factory));
+        assertInstanceOf(SecondScanner.class, factory.getAnnotationScanners().get(1));
+        // Each supplier is called once, the factory returns the same scanners every time
+        assertSame(factory.getAnnotationScanners().get(0), factory.get().iterator().next());
+    }
+}
@@ -0,0 +1,67 @@
+package io.smallrye.openapi.runtime.scanner.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import io.smallrye.openapi.runtime.scanner.IndexScannerTestBase;
+
+class PathTemplateTest {
+
+    static final Pattern TEMPLATE_PARAM_PATTERN = Pattern
+            .compile("\\{[ \\t]*(\\w[\\w\\.-]*)[ \\t]*:[ \\t]*((?:[^{}]|\\{[^{}]+\\})+)\\}");
+
+    @Test
+    void testConstrainedVariables() {
+        PathTemplate template = PathTemplate.parse("items/{ id : [0-9]{1,4} }/{name}/{version:v\\d+}",
+                TEMPLATE_PARAM_PATTERN);
+
+        assertEquals("items/{id}/{name}/{version}", template.getPath());
+
+        List<PathTemplate.ConstrainedVariable> variables = template.getConstrainedVariables();
+        assertEquals(2, variables.size());
+        assertEquals("id", variables.get(0).getName());
+        assertEquals("[0-9]{1,4}", variables.get(0).getPattern());
+        assertEquals("version", variables.get(1).getName());
+        assertEquals("v\\d+", variables.get(1).getPattern());
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "id, true",
+            "name, true",
+            "version, true",
+            "items, false",
+            "nam, false"
+    })
+    void testHasVariable(String name, boolean expected) {
+        PathTemplate template = PathTemplate.parse("/items/{ id : [0-9]+ }/{\tname }/{version}", TEMPLATE_PARAM_PATTERN);
+        assertEquals(expected, template.hasVariable(name));
+    }
+
+    @Test
+    void testTemplateWithoutVariables() {
+        PathTemplate template = PathTemplate.parse("items/all", TEMPLATE_PARAM_PATTERN);
+
+        assertEquals("items/all", template.getPath());
+        assertTrue(template.getConstrainedVariables().isEmpty());
+        assertFalse(template.hasVariable("items"));
+    }
+
+    @Test
+    void testTemplatesCachedByContext() {
+        AnnotationScannerContext context = new AnnotationScannerContext(IndexScannerTestBase.indexOf(PathTemplateTest.class),
+                getClass().getClassLoader(), IndexScannerTestBase.emptyConfig());
+
+        PathTemplate template = context.getPathTemplate("items/{id:\\d+}", TEMPLATE_PARAM_PATTERN);
+        assertSame(template, context.getPathTemplate("items/{id:\\d+}", TEMPLATE_PARAM_PATTERN));
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -40,6 +41,7 @@ import org.jboss.jandex.Type;
 import io.smallrye.openapi.api.models.PathItemImpl;
 import io.smallrye.openapi.api.util.ListUtil;
 import io.smallrye.openapi.api.util.MergeUtil;
+import io.smallrye.openapi.runtime.events.OpenApiResourceScanEvent;
 import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.openapi.runtime.scanner.FilteredIndexView;
 import io.smallrye.openapi.runtime.scanner.ResourceParameters;
@@ -68,6 +70,29 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
 
     private final Deque<JaxRsSubResourceLocator> subResourceStack = new LinkedList<>();
 
+    /**
+     * Operations of sub-resource methods, keyed by everything they depend on other than the
+     * locator's path and path parameters. A sub-resource reached through several locators has
+     * its operations scanned once, with each locator receiving a copy.
+     */
+    private final Map<JaxRsSubResourceOperationKey, Optional<Operation>> subResourceOperations = new HashMap<>();
+
+    /**
+     * Type resolvers of sub-resources, keyed by the resolved type returned by the locators.
+     */
+    private final Map<Type, TypeResolver> subResourceResolvers = new HashMap<>();
+
+    /**
+     * Methods of the resource classes, in the order they are processed.
+     */
+    private final Map<DotName, List<MethodInfo>> resourceMethods = new HashMap<>();
+
+    /**
+     * Responses declared by the application's exception mappers, built on first use
+     * and shared by all resource methods of the scan.
+     */
+    private JaxRsExceptionMapperIndex exceptionMappers;
+
     @Override
     public String getName() {
         return "JAX-RS";
@@ -143,6 +168,10 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
     @Override
     public OpenAPI scan(final AnnotationScannerContext context, OpenAPI openApi) {
         this.context = context;
+        this.subResourceOperations.clear();
+        this.subResourceResolvers.clear();
+        this.resourceMethods.clear();
+        this.exceptionMappers = null;
 
         // Get all JaxRs applications and convert them to OpenAPI models (and merge them into a single one)
         processApplicationClasses(openApi);
@@ -259,6 +288,8 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
             List<Parameter> locatorPathParameters,
             Set<String> tagRefs) {
         JaxRsLogging.log.processingClass(resourceClass.simpleName());
+        OpenApiResourceScanEvent event = new OpenApiResourceScanEvent();
+        event.begin();
 
         // Process @SecurityScheme annotations.
         processSecuritySchemeAnnotation(context, resourceClass, openApi);
@@ -268,6 +299,8 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
 
         // Now find and process the operation methods
         processResourceMethods(resourceClass, openApi, locatorPathParameters, tagRefs);
+
+        event.complete(getName(), resourceClass);
     }
 
     /**
@@ -284,9 +317,16 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
             Set<String> tagRefs) {
 
         // Process exception mapper to auto generate api response based on method exceptions
-        Map<DotName, Map<String, APIResponse>> exceptionResponseMap = processExceptionMappers();
-        List<MethodInfo> methods = getResourceMethods(context, resourceClass);
-        Collections.reverse(methods);
+        if (exceptionMappers == null) {
+            exceptionMappers = new JaxRsExceptionMapperIndex(context.getIndex(), context.getClassLoader(),
+                    processExceptionMappers());
+        }
+
+        List<MethodInfo> methods = resourceMethods.computeIfAbsent(resourceClass.name(), name -> {
+            List<MethodInfo> declared = getResourceMethods(context, resourceClass);
+            Collections.reverse(declared);
+            return declared;
+        });
 
         for (MethodInfo methodInfo : methods) {
             final AtomicInteger resourceCount = new AtomicInteger(0);
@@ -300,7 +340,7 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
                     .forEach(httpMethod -> {
                         resourceCount.incrementAndGet();
                         processResourceMethod(resourceClass, methodInfo, httpMethod, tagRefs,
-                                locatorPathParameters, exceptionResponseMap);
+                                locatorPathParameters);
                     });
 
             if (resourceCount.get() == 0 && context.annotations().hasAnnotation(methodInfo, JaxRsConstants.PATH)) {
@@ -399,7 +439,7 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
             return;
         }
 
-        JaxRsSubResourceLocator locator = new JaxRsSubResourceLocator(resourceClass, method);
+        JaxRsSubResourceLocator locator = new JaxRsSubResourceLocator(resourceClass, method, methodReturnType);
         ClassInfo subResourceClass = context.getIndex().getClassByName(methodReturnType.name());
 
         // Do not allow the same resource locator method to be used twice (sign of infinite recursion)
@@ -422,7 +462,8 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
             this.currentAppPath = createPathFromSegments(this.currentAppPath, subResourcePath);
             this.subResourceStack.push(locator);
 
-            TypeResolver resolver = TypeResolver.forClass(context, subResourceClass, methodReturnType);
+            TypeResolver resolver = subResourceResolvers.computeIfAbsent(methodReturnType,
+                    type -> TypeResolver.forClass(context, subResourceClass, type));
             context.getResolverStack().push(resolver);
 
             // Check for @Tags from the method or the subresource class, default to the parent's tags
@@ -461,8 +502,7 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
             final MethodInfo method,
             final PathItem.HttpMethod methodType,
             Set<String> resourceTags,
-            List<Parameter> locatorPathParameters,
-            Map<DotName, Map<String, APIResponse>> exceptionResponseMap) {
+            List<Parameter> locatorPathParameters) {
 
         JaxRsLogging.log.processingMethod(method.toString());
 
@@ -475,8 +515,16 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
         context.setDefaultProduces(defaultProduces);
         context.setCurrentProduces(getMediaTypes(method, JaxRsConstants.PRODUCES, defaultProduces).orElse(null));
 
-        // Process any @Operation annotation
-        Optional<Operation> maybeOperation = processOperation(context, resourceClass, method);
+        // Form parameter media types depend on the current @Consumes, set above
+        ResourceParameters params = getResourceParameters(resourceClass, method);
+        final Optional<Operation> maybeOperation;
+
+        if (this.subResourceStack.isEmpty()) {
+            maybeOperation = createOperation(resourceClass, method, params);
+        } else {
+            maybeOperation = getSubResourceOperation(resourceClass, method, methodType, params, defaultConsumes);
+        }
+
         if (!maybeOperation.isPresent()) {
             return; // If the operation is marked as hidden, just bail here because we don't want it as part of the model.
         }
@@ -486,7 +534,6 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
         processOperationTags(context, method, context.getOpenApi(), resourceTags, operation);
 
         // Process @Parameter annotations.
-        ResourceParameters params = getResourceParameters(resourceClass, method);
         List<Parameter> operationParams = params.getOperationParameters();
         operation.setParameters(operationParams);
         if (locatorPathParameters != null && operationParams != null) {
@@ -496,30 +543,6 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
         PathItem pathItem = new PathItemImpl();
         pathItem.setParameters(ListUtil.mergeNullableLists(locatorPathParameters, params.getPathItemParameters()));
 
-        // Process any @RequestBody annotation (note: the @RequestBody annotation can be found on a method argument *or* on the method)
-        RequestBody requestBody = processRequestBody(context, method, params);
-        if (requestBody != null) {
-            operation.setRequestBody(requestBody);
-        }
-
-        // Process @APIResponse annotations
-        processResponse(context, resourceClass, method, operation, exceptionResponseMap);
-
-        // Process @SecurityRequirement annotations
-        processSecurityRequirementAnnotation(context, resourceClass, method, operation);
-
-        // Process @Callback annotations
-        processCallback(context, method, operation);
-
-        // Process @Server annotations
-        processServerAnnotation(context, method, operation);
-
-        // Process @Extension annotations
-        processExtensions(context, method, operation);
-
-        // Process Security Roles
-        context.getJavaSecurityProcessor().processSecurityRoles(method, operation);
-
         // Now set the operation on the PathItem as appropriate based on the Http method type
         pathItem.setOperation(methodType, operation);
 
@@ -548,6 +571,88 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
         }
     }
 
+    /**
+     * Retrieve a copy of the operation for a method of a sub-resource, scanning the method
+     * only the first time it is reached through any locator. The operation does not include
+     * tags or parameters, which depend on the locator: path parameters are only retained
+     * when they occur in the full path, including the locator's path.
+     *
+     * The copy is made with {@link MergeUtil#copyObject(Object)}: schemas keep their state,
+     * every other node is copied reflectively through its bean properties.
+     */
+    private Optional<Operation> getSubResourceOperation(final ClassInfo resourceClass,
+            final MethodInfo method,
+            final PathItem.HttpMethod methodType,
+            ResourceParameters params,
+            String[] defaultConsumes) {
+
+        List<Type> subResourceTypes = this.subResourceStack.stream()
+                .map(locator -> locator.type)
+                .collect(Collectors.toList());
+
+        JaxRsSubResourceOperationKey key = new JaxRsSubResourceOperationKey(resourceClass.name(),
+                method,
+                methodType,
+                subResourceTypes,
+                defaultConsumes,
+                context.getCurrentConsumes(),
+                context.getDefaultProduces(),
+                context.getCurrentProduces());
+
+        Optional<Operation> operation = subResourceOperations.get(key);
+
+        if (operation == null) {
+            operation = createOperation(resourceClass, method, params);
+            subResourceOperations.put(key, operation);
+        } else {
+            // Report duplicate operationIds exactly as when the method is scanned again
+            operation.ifPresent(op -> validateOperationId(context, resourceClass, method, op));
+        }
+
+        return operation.map(MergeUtil::copyObject);
+    }
+
+    /**
+     * Create the operation for a resource method, excluding the tags and parameters.
+     */
+    private Optional<Operation> createOperation(final ClassInfo resourceClass,
+            final MethodInfo method,
+            ResourceParameters params) {
+
+        // Process any @Operation annotation
+        Optional<Operation> maybeOperation = processOperation(context, resourceClass, method);
+        if (!maybeOperation.isPresent()) {
+            return maybeOperation;
+        }
+        final Operation operation = maybeOperation.get();
+
+        // Process any @RequestBody annotation (note: the @RequestBody annotation can be found on a method argument *or* on the method)
+        RequestBody requestBody = processRequestBody(context, method, params);
+        if (requestBody != null) {
+            operation.setRequestBody(requestBody);
+        }
+
+        // Process @APIResponse annotations
+        processResponse(context, resourceClass, method, operation, exceptionMappers.getResponses(method.exceptions()));
+
+        // Process @SecurityRequirement annotations
+        processSecurityRequirementAnnotation(context, resourceClass, method, operation);
+
+        // Process @Callback annotations
+        processCallback(context, method, operation);
+
+        // Process @Server annotations
+        processServerAnnotation(context, method, operation);
+
+        // Process @Extension annotations
+        processExtensions(context, method, operation);
+
+        // Process Security Roles
+        context.getJavaSecurityProcessor().processSecurityRoles(method, operation);
+
+        return maybeOperation;
+    }
+
     private ResourceParameters getResourceParameters(final ClassInfo resourceClass, final MethodInfo method) {
         Function<AnnotationInstance, Parameter> reader = t -> context.io().parameters().read(t);
         return JaxRsParameterProcessor.process(context, currentAppPath, resourceClass, method,
@@ -637,8 +742,7 @@ public class JaxRsAnnotationScanner extends AbstractAnnotationScanner {
         Collection<AnnotationInstance> pathAnnotations = new ArrayList<>();
 
         for (DotName dn : JaxRsConstants.PATH) {
-            pathAnnotations.addAll(context.getIndex()
-                    .getAnnotations(dn));
+            pathAnnotations.addAll(context.getIndexedAnnotations(dn));
         }
 
         return pathAnnotations
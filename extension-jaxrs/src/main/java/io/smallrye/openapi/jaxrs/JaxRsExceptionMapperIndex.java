@@ -0,0 +1,108 @@
+package io.smallrye.openapi.jaxrs;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.openapi.models.responses.APIResponse;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Type;
+
+/**
+ * Resolves the responses declared by the application's {@code ExceptionMapper}s for
+ * the exceptions thrown by a resource method. As with the JAX-RS runtime, the mapper
+ * selected for an exception is the one handling the closest type in the exception's
+ * class hierarchy. Resolved types are remembered, so each class in the hierarchy is
+ * visited at most once per scan. Exceptions missing from the index, typically those of
+ * the JDK or of libraries, are followed through their loaded classes instead.
+ *
+ * The response maps returned are shared by all operations and must not be modified, the
+ * scanner attaches a copy of each response to the operations it documents.
+ */
+class JaxRsExceptionMapperIndex {
+
+    private final IndexView index;
+    private final ClassLoader classLoader;
+    private final Map<DotName, Map<String, APIResponse>> resolved;
+
+    JaxRsExceptionMapperIndex(IndexView index, ClassLoader classLoader,
+            Map<DotName, Map<String, APIResponse>> mapperResponses) {
+        this.index = index;
+        this.classLoader = classLoader;
+        this.resolved = new HashMap<>(mapperResponses.size() * 2);
+        mapperResponses.forEach((exceptionType, responses) -> resolved.put(exceptionType,
+                Collections.unmodifiableMap(responses)));
+    }
+
+    /**
+     * Retrieve the responses of the most specific mapper for the given exception type.
+     *
+     * @param exceptionType name of the thrown exception
+     * @return the mapper's responses, or an empty map when no mapper handles the type
+     */
+    Map<String, APIResponse> getResponses(DotName exceptionType) {
+        Map<String, APIResponse> responses = resolved.get(exceptionType);
+
+        if (responses == null) {
+            DotName superName = superName(exceptionType);
+            responses = superName != null ? getResponses(superName) : Collections.emptyMap();
+            resolved.put(exceptionType, responses);
+        }
+
+        return responses;
+    }
+
+    private DotName superName(DotName exceptionType) {
+        ClassInfo exceptionClass = index.getClassByName(exceptionType);
+
+        if (exceptionClass != null) {
+            return exceptionClass.superName();
+        }
+
+        try {
+            Class<?> superClass = Class.forName(exceptionType.toString(), false, classLoader).getSuperclass();
+            return superClass != null ? DotName.createSimple(superClass.getName()) : null;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Retrieve the responses for all exceptions thrown by a method. When mappers for
+     * several of the exceptions declare the same response code, the first exception
+     * in the method's {@code throws} clause wins.
+     *
+     * @param exceptions the exceptions declared by a resource method
+     * @return the combined responses, or null when no mapper applies
+     */
+    Map<String, APIResponse> getResponses(List<Type> exceptions) {
+        Map<String, APIResponse> result = null;
+        boolean shared = false;
+
+        for (Type exception : exceptions) {
+            Map<String, APIResponse> responses = getResponses(exception.name());
+
+            if (responses.isEmpty() || responses == result) {
+                continue;
+            }
+
+            if (result == null) {
+                result = responses;
+                shared = true;
+            } else {
+                if (shared) {
+                    // Copy the shared map only once a second mapper contributes to the method
+                    result = new LinkedHashMap<>(result);
+                    shared = false;
+                }
+                responses.forEach(result::putIfAbsent);
+            }
+        }
+
+        return result;
+    }
+}
@@ -48,11 +48,7 @@ public class JaxRsParameterProcessor extends AbstractParameterProcessor {
     static final Pattern TEMPLATE_PARAM_PATTERN = Pattern
             .compile("\\{[ \\t]*(\\w[\\w\\.-]*)[ \\t]*:[ \\t]*((?:[^{}]|\\{[^{}]+\\})+)\\}"); //NOSONAR
 
-    private JaxRsParameterProcessor(AnnotationScannerContext scannerContext,
-            String contextPath,
-            Function<AnnotationInstance, Parameter> reader,
-            List<AnnotationScannerExtension> extensions) {
-        super(scannerContext, contextPath, reader, extensions);
+    private JaxRsParameterProcessor() {
     }
 
     /**
@@ -78,8 +74,8 @@ public class JaxRsParameterProcessor extends AbstractParameterProcessor {
             Function<AnnotationInstance, Parameter> reader,
             List<AnnotationScannerExtension> extensions) {
 
-        JaxRsParameterProcessor processor = new JaxRsParameterProcessor(context, contextPath, reader, extensions);
-        return processor.process(resourceClass, resourceMethod);
+        return processReusable(JaxRsParameterProcessor.class, JaxRsParameterProcessor::new, context, contextPath,
+                reader, extensions, resourceClass, resourceMethod);
     }
 
     @Override
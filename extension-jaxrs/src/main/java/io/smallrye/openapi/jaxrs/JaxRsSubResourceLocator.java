@@ -4,14 +4,20 @@ import java.util.Objects;
 
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
 
 class JaxRsSubResourceLocator {
     final ClassInfo clazz;
     final MethodInfo method;
+    /**
+     * Resolved type of the sub-resource returned by the locator, not considered for equality
+     */
+    final Type type;
 
-    JaxRsSubResourceLocator(ClassInfo clazz, MethodInfo method) {
+    JaxRsSubResourceLocator(ClassInfo clazz, MethodInfo method, Type type) {
         this.clazz = clazz;
         this.method = method;
+        this.type = type;
     }
 
     @Override
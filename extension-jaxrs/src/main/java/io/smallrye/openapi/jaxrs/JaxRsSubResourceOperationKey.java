@@ -0,0 +1,59 @@
+package io.smallrye.openapi.jaxrs;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.microprofile.openapi.models.PathItem;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+
+/**
+ * Identifies the operation produced by a sub-resource method independently of the
+ * locator(s) through which the sub-resource is reached. The path and the path
+ * parameters contributed by a locator are not part of the key.
+ */
+class JaxRsSubResourceOperationKey {
+    final DotName resourceClass;
+    final MethodInfo method;
+    final PathItem.HttpMethod httpMethod;
+    final List<Type> subResourceTypes;
+    final List<String[]> mediaTypes;
+    final int hash;
+
+    JaxRsSubResourceOperationKey(DotName resourceClass,
+            MethodInfo method,
+            PathItem.HttpMethod httpMethod,
+            List<Type> subResourceTypes,
+            String[]... mediaTypes) {
+        this.resourceClass = resourceClass;
+        this.method = method;
+        this.httpMethod = httpMethod;
+        this.subResourceTypes = subResourceTypes;
+        this.mediaTypes = Arrays.asList(mediaTypes);
+        this.hash = Objects.hash(resourceClass, method, httpMethod, subResourceTypes, Arrays.deepHashCode(mediaTypes));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof JaxRsSubResourceOperationKey) {
+            JaxRsSubResourceOperationKey other = (JaxRsSubResourceOperationKey) o;
+            return hash == other.hash
+                    && Objects.equals(resourceClass, other.resourceClass)
+                    && Objects.equals(method, other.method)
+                    && httpMethod == other.httpMethod
+                    && Objects.equals(subResourceTypes, other.subResourceTypes)
+                    && Arrays.deepEquals(mediaTypes.toArray(), other.mediaTypes.toArray());
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -1,9 +1,22 @@
 package io.smallrye.openapi.runtime.scanner;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.responses.APIResponses;
 import org.jboss.jandex.Index;
 import org.json.JSONException;
 import org.junit.jupiter.api.Test;
@@ -60,4 +73,142 @@ class ExceptionMapperScanTests extends IndexScannerTestBase {
                 test.io.smallrye.openapi.runtime.scanner.jakarta.TestResource.class,
                 test.io.smallrye.openapi.runtime.scanner.jakarta.ExceptionHandler3.class);
     }
+
+    static class BaseException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+    }
+
+    static class SpecificException extends BaseException {
+        private static final long serialVersionUID = 1L;
+    }
+
+    static class MoreSpecificException extends SpecificException {
+        private static final long serialVersionUID = 1L;
+    }
+
+    static class BaseExceptionMapper implements ExceptionMapper<BaseException> {
+        @Override
+        @APIResponse(responseCode = "500", description = "Base error")
+        public Response toResponse(BaseException exception) {
+            return null;
+        }
+    }
+
+    static class SpecificExceptionMapper implements ExceptionMapper<SpecificException> {
+        @Override
+        @APIResponse(responseCode = "409", description = "Specific error")
+        public Response toResponse(SpecificException exception) {
+            return null;
+        }
+    }
+
+    @Path("/hierarchy")
+    static class HierarchyResource {
+        @GET
+        @Path("base")
+        public String base() throws BaseException {
+            return null;
+        }
+
+        @GET
+        @Path("specific")
+        public String specific() throws MoreSpecificException {
+            return null;
+        }
+
+        @GET
+        @Path("unmapped")
+        public String unmapped() throws IllegalStateException {
+            return null;
+        }
+    }
+
+    @Test
+    void testExceptionMapperTypeHierarchy() {
+        OpenAPI result = scan(HierarchyResource.class, BaseException.class, SpecificException.class,
+                MoreSpecificException.class, BaseExceptionMapper.class, SpecificExceptionMapper.class);
+
+        APIResponses base = result.getPaths().getPathItem("/hierarchy/base").getGET().getResponses();
+        assertEquals(Arrays.asList("200", "500"), new ArrayList<>(base.getAPIResponses().keySet()));
+
+        // The mapper of the closest superclass is selected, as by the JAX-RS runtime
+        APIResponses specific = result.getPaths().getPathItem("/hierarchy/specific").getGET().getResponses();
+        assertEquals(Arrays.asList("200", "409"), new ArrayList<>(specific.getAPIResponses().keySet()));
+
+        APIResponses unmapped = result.getPaths().getPathItem("/hierarchy/unmapped").getGET().getResponses();
+        assertEquals(Arrays.asList("200"), new ArrayList<>(unmapped.getAPIResponses().keySet()));
+    }
+
+    static class RuntimeExceptionMapper implements ExceptionMapper<RuntimeException> {
+        @Override
+        @APIResponse(responseCode = "500", description = "Runtime error")
+        public Response toResponse(RuntimeException exception) {
+            return null;
+        }
+    }
+
+    static class IOExceptionMapper implements ExceptionMapper<IOException> {
+        @Override
+        @APIResponse(responseCode = "503", description = "I/O error")
+        public Response toResponse(IOException exception) {
+            return null;
+        }
+    }
+
+    static class ApplicationException extends IllegalArgumentException {
+        private static final long serialVersionUID = 1L;
+    }
+
+    @Path("/jdk")
+    static class JdkExceptionResource {
+        @GET
+        @Path("state")
+        public String state() throws IllegalStateException {
+            return null;
+        }
+
+        @GET
+        @Path("file")
+        public String file() throws FileNotFoundException {
+            return null;
+        }
+
+        @GET
+        @Path("application")
+        public String application() throws ApplicationException {
+            return null;
+        }
+    }
+
+    @Test
+    void testExceptionMapperJdkTypeHierarchy() {
+        // Neither the thrown JDK exceptions nor their superclasses are indexed
+        OpenAPI result = scan(JdkExceptionResource.class, ApplicationException.class,
+                RuntimeExceptionMapper.class, IOExceptionMapper.class);
+
+        APIResponses state = result.getPaths().getPathItem("/jdk/state").getGET().getResponses();
+        assertEquals(Arrays.asList("200", "500"), new ArrayList<>(state.getAPIResponses().keySet()));
+
+        APIResponses file = result.getPaths().getPathItem("/jdk/file").getGET().getResponses();
+        assertEquals(Arrays.asList("200", "503"), new ArrayList<>(file.getAPIResponses().keySet()));
+
+        // Indexed exception extending a JDK exception that is not indexed
+        APIResponses application = result.getPaths().getPathItem("/jdk/application").getGET().getResponses();
+        assertEquals(Arrays.asList("200", "500"), new ArrayList<>(application.getAPIResponses().keySet()));
+    }
+
+    @Test
+    void testExceptionMapperResponseCopiedPerOperation() {
+        OpenAPI result = scan(JdkExceptionResource.class, ApplicationException.class,
+                RuntimeExceptionMapper.class, IOExceptionMapper.class);
+
+        // Both operations document the response of the same mapper
+        APIResponses state = result.getPaths().getPathItem("/jdk/state").getGET().getResponses();
+        APIResponses application = result.getPaths().getPathItem("/jdk/application").getGET().getResponses();
+        assertNotSame(state.getAPIResponse("500"), application.getAPIResponse("500"));
+
+        state.getAPIResponse("500").setDescription("State error");
+        assertEquals("State error", state.getAPIResponse("500").getDescription());
+        assertEquals("Runtime error", application.getAPIResponse("500").getDescription());
+    }
 }
@@ -6,15 +6,38 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+
+import jakarta.annotation.security.DeclareRoles;
+import jakarta.annotation.security.DenyAll;
+import jakarta.annotation.security.PermitAll;
+import jakarta.annotation.security.RolesAllowed;
 
 import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.security.OAuthFlow;
 import org.eclipse.microprofile.openapi.models.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.models.security.SecurityScheme;
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexView;
 import org.junit.jupiter.api.Test;
 
 import io.smallrye.openapi.api.OpenApiConfig;
+import io.smallrye.openapi.api.models.ComponentsImpl;
+import io.smallrye.openapi.api.models.OpenAPIImpl;
+import io.smallrye.openapi.api.models.OperationImpl;
+import io.smallrye.openapi.api.models.security.OAuthFlowImpl;
+import io.smallrye.openapi.api.models.security.OAuthFlowsImpl;
+import io.smallrye.openapi.api.models.security.SecuritySchemeImpl;
+import io.smallrye.openapi.runtime.scanner.processor.JavaSecurityProcessor;
+import io.smallrye.openapi.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.openapi.runtime.util.Annotations;
 
 class RolesAllowedScopeScanTests extends IndexScannerTestBase {
 
@@ -233,4 +256,118 @@ class RolesAllowedScopeScanTests extends IndexScannerTestBase {
                 .get("oidc")
                 .getFlows());
     }
+
+    @DeclareRoles({ "admin", "users" })
+    @RolesAllowed("users")
+    static class SecuredResource {
+        public void inherited() {
+        }
+
+        @RolesAllowed("auditor")
+        public void audited() {
+        }
+
+        @DenyAll
+        public void denied() {
+        }
+
+        @PermitAll
+        public void permitted() {
+        }
+    }
+
+    static class CountingContext extends AnnotationScannerContext {
+        int annotationReads;
+
+        CountingContext(IndexView index) {
+            super(index, Thread.currentThread().getContextClassLoader(), emptyConfig());
+        }
+
+        @Override
+        public Annotations annotations() {
+            annotationReads++;
+            return super.annotations();
+        }
+    }
+
+    private static OpenAPI oauth2Model(OAuthFlow flow) {
+        OpenAPI openApi = new OpenAPIImpl();
+        openApi.setComponents(new ComponentsImpl());
+        SecurityScheme scheme = new SecuritySchemeImpl();
+        scheme.setType(SecurityScheme.Type.OAUTH2);
+        scheme.setFlows(new OAuthFlowsImpl());
+        scheme.getFlows().setClientCredentials(flow);
+        openApi.getComponents().addSecurityScheme("rolesScheme", scheme);
+        return openApi;
+    }
+
+    private static Map<String, List<String>> processMethods(JavaSecurityProcessor processor, ClassInfo resource) {
+        Map<String, List<String>> roles = new LinkedHashMap<>();
+
+        for (String name : Arrays.asList("inherited", "audited", "denied", "permitted")) {
+            Operation operation = new OperationImpl();
+            processor.processSecurityRoles(resource.firstMethod(name), operation);
+            roles.put(name, operation.getSecurity() != null ? operation.getSecurity().get(0).getScheme("rolesScheme") : null);
+        }
+
+        return roles;
+    }
+
+    @Test
+    void testSecurityAnnotationsReadOncePerClass() {
+        Index index = indexOf(SecuredResource.class);
+        ClassInfo resource = index.getClassByName(SecuredResource.class);
+        CountingContext context = new CountingContext(index);
+        JavaSecurityProcessor processor = context.getJavaSecurityProcessor();
+        OpenAPI openApi = oauth2Model(new OAuthFlowImpl());
+
+        processor.initialize(openApi);
+        processor.processClassSecurity(resource);
+        Map<String, List<String>> first = processMethods(processor, resource);
+        int reads = context.annotationReads;
+
+        // A class reached again, e.g. a sub-resource returned by several locators
+        processor.initialize(openApi);
+        processor.processClassSecurity(resource);
+        Map<String, List<String>> second = processMethods(processor, resource);
+
+        assertEquals(reads, context.annotationReads);
+        assertEquals(first, second);
+
+        Map<String, List<String>> expected = new LinkedHashMap<>();
+        expected.put("inherited", Arrays.asList("users"));
+        expected.put("audited", Arrays.asList("auditor"));
+        expected.put("denied", Collections.emptyList());
+        expected.put("permitted", null);
+        assertEquals(expected, first);
+    }
+
+    @Test
+    void testRolesAddedToScopesWithoutScan() {
+        Index index = indexOf(SecuredResource.class);
+        ClassInfo resource = index.getClassByName(SecuredResource.class);
+        JavaSecurityProcessor processor = new AnnotationScannerContext(index,
+                Thread.currentThread().getContextClassLoader(), emptyConfig()).getJavaSecurityProcessor();
+        OAuthFlow flow = new OAuthFlowImpl();
+
+        processor.initialize(oauth2Model(flow));
+        processor.addDeclaredRolesToScopes(new String[] { "reader" });
+        assertEquals(Collections.singletonMap("reader", "reader role"), flow.getScopes());
+
+        processor.processClassSecurity(resource);
+        processMethods(processor, resource);
+        processMethods(processor, resource);
+
+        assertEquals(Arrays.asList("reader", "admin", "users", "auditor"), new ArrayList<>(flow.getScopes().keySet()));
+        assertEquals("auditor role", flow.getScopes().get("auditor"));
+
+        // A flow given scopes by the processor is no longer eligible once initialized again
+        OAuthFlow next = new OAuthFlowImpl();
+        OpenAPI openApi = oauth2Model(flow);
+        openApi.getComponents().getSecuritySchemes().get("rolesScheme").getFlows().setPassword(next);
+        processor.initialize(openApi);
+        processor.addRolesAllowedToScopes(new String[] { "writer" });
+        assertEquals(Collections.singletonMap("writer", "writer role"), next.getScopes());
+        assertNull(flow.getScopes().get("writer"));
+    }
 }
@@ -1,17 +1,27 @@
 package io.smallrye.openapi.runtime.scanner;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
 import java.io.IOException;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 
+import org.eclipse.microprofile.openapi.annotations.extensions.Extension;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 import org.eclipse.microprofile.openapi.annotations.tags.Tags;
 import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.eclipse.microprofile.openapi.models.Operation;
+import org.eclipse.microprofile.openapi.models.media.Schema;
 import org.jboss.jandex.Index;
 import org.json.JSONException;
 import org.junit.jupiter.api.Test;
@@ -112,4 +122,65 @@ class SubresourceScanTests extends IndexScannerTestBase {
         test("resource.subresource-tag-placement-priority.json",
                 RootResource.class, SubresourceA.class, SubresourceB.class, ProducesText.class, RootA2Tag.class);
     }
+
+    private static Schema responseSchema(Operation operation) {
+        return operation.getResponses().getAPIResponse("200").getContent().getMediaTypes().values().iterator().next()
+                .getSchema();
+    }
+
+    @Test
+    void testSubresourceReachedByMultipleLocators() {
+        class Subresource {
+            @GET
+            @Path("/op")
+            @Extension(name = "x-scanned", value = "true", parseValue = true)
+            public String op() {
+                return null;
+            }
+        }
+
+        @Path("/root")
+        class RootResource {
+            @Path("a")
+            public Subresource getA() {
+                return null;
+            }
+
+            @Path("b")
+            @Tag(name = "root-b-tag")
+            public Subresource getB() {
+                return null;
+            }
+        }
+
+        AtomicInteger scanned = new AtomicInteger();
+        AnnotationScannerExtension countingExtension = new AnnotationScannerExtension() {
+            @Override
+            public Object parseExtension(String key, String value) {
+                scanned.incrementAndGet();
+                return AnnotationScannerExtension.super.parseExtension(key, value);
+            }
+        };
+
+        OpenApiAnnotationScanner scanner = new OpenApiAnnotationScanner(emptyConfig(),
+                indexOf(RootResource.class, Subresource.class), Collections.singletonList(countingExtension));
+        OpenAPI result = scanner.scan();
+        Operation opA = result.getPaths().getPathItem("/root/a/op").getGET();
+        Operation opB = result.getPaths().getPathItem("/root/b/op").getGET();
+
+        // The sub-resource method is scanned once, the second locator re-uses the operation
+        assertEquals(1, scanned.get());
+        assertEquals("true", opA.getExtensions().get("x-scanned"));
+        assertEquals("true", opB.getExtensions().get("x-scanned"));
+
+        // Each locator receives its own copy of the sub-resource operation
+        assertNotSame(opA, opB);
+        assertNotSame(opA.getResponses(), opB.getResponses());
+        Schema schemaA = responseSchema(opA);
+        Schema schemaB = responseSchema(opB);
+        assertNotSame(schemaA, schemaB);
+        assertEquals(schemaA.getType(), schemaB.getType());
+        assertNull(opA.getTags());
+        assertEquals(Arrays.asList("root-b-tag"), opB.getTags());
+    }
 }
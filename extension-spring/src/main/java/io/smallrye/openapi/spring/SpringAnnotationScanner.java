@@ -3,6 +3,7 @@ package io.smallrye.openapi.spring;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -15,7 +16,6 @@ import org.eclipse.microprofile.openapi.models.PathItem;
 import org.eclipse.microprofile.openapi.models.parameters.Parameter;
 import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
 import org.jboss.jandex.AnnotationInstance;
-import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
@@ -26,6 +26,7 @@ import org.jboss.jandex.Type;
 import io.smallrye.openapi.api.models.PathItemImpl;
 import io.smallrye.openapi.api.util.ListUtil;
 import io.smallrye.openapi.api.util.MergeUtil;
+import io.smallrye.openapi.runtime.events.OpenApiResourceScanEvent;
 import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.openapi.runtime.scanner.ResourceParameters;
 import io.smallrye.openapi.runtime.scanner.dataobject.TypeResolver;
@@ -117,6 +118,11 @@ public class SpringAnnotationScanner extends AbstractAnnotationScanner {
         return false;
     }
 
+    @Override
+    public Collection<DotName> getTriggerAnnotations() {
+        return Collections.singletonList(SpringConstants.REST_CONTROLLER);
+    }
+
     @Override
     public OpenAPI scan(final AnnotationScannerContext context, OpenAPI openApi) {
         this.context = context;
@@ -145,17 +151,7 @@ public class SpringAnnotationScanner extends AbstractAnnotationScanner {
      */
     private void processControllerClasses(OpenAPI openApi) {
         // Get all Spring controllers and convert them to OpenAPI models (and merge them into a single one)
-        Collection<AnnotationInstance> controllerAnnotations = context.getIndex()
-                .getAnnotations(SpringConstants.REST_CONTROLLER);
-        List<ClassInfo> applications = new ArrayList<>();
-        for (AnnotationInstance annotationInstance : controllerAnnotations) {
-            if (annotationInstance.target().kind().equals(AnnotationTarget.Kind.CLASS)) {
-                ClassInfo classInfo = annotationInstance.target().asClass();
-                applications.add(classInfo);
-            } else {
-                SpringLogging.log.ignoringAnnotation(SpringConstants.REST_CONTROLLER.withoutPackagePrefix());
-            }
-        }
+        List<ClassInfo> applications = new ArrayList<>(context.getCandidateClasses(getTriggerAnnotations()));
 
         // this can be a useful extension point to set/override the application path
         processScannerExtensions(context, applications);
@@ -177,6 +173,8 @@ public class SpringAnnotationScanner extends AbstractAnnotationScanner {
     private OpenAPI processControllerClass(ClassInfo controllerClass) {
 
         SpringLogging.log.processingController(controllerClass.simpleName());
+        OpenApiResourceScanEvent event = new OpenApiResourceScanEvent();
+        event.begin();
 
         TypeResolver resolver = TypeResolver.forClass(context, controllerClass, null);
         context.getResolverStack().push(resolver);
@@ -208,6 +206,7 @@ public class SpringAnnotationScanner extends AbstractAnnotationScanner {
 
         context.getResolverStack().pop();
 
+        event.complete(getName(), controllerClass);
         return openApi;
     }
 
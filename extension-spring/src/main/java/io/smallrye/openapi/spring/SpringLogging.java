@@ -9,10 +9,6 @@ import org.jboss.logging.annotations.MessageLogger;
 interface SpringLogging {
     SpringLogging log = Logger.getMessageLogger(SpringLogging.class, SpringLogging.class.getPackage().getName());
 
-    @LogMessage(level = Logger.Level.WARN)
-    @Message(id = 11000, value = "Ignoring %s annotation that is not on a class")
-    void ignoringAnnotation(String className);
-
     @LogMessage(level = Logger.Level.DEBUG)
     @Message(id = 11001, value = "Processing a Spring REST Controller class: %s")
     void processingController(String className);
@@ -40,11 +40,7 @@ public class SpringParameterProcessor extends AbstractParameterProcessor {
     static final Pattern TEMPLATE_PARAM_PATTERN = Pattern
             .compile("\\{[ \\t]*(\\w[\\w\\.-]*)[ \\t]*:[ \\t]*((?:[^{}]|\\{[^{}]+\\})+)\\}"); //NOSONAR
 
-    private SpringParameterProcessor(AnnotationScannerContext scannerContext,
-            String contextPath,
-            Function<AnnotationInstance, Parameter> reader,
-            List<AnnotationScannerExtension> extensions) {
-        super(scannerContext, contextPath, reader, extensions);
+    private SpringParameterProcessor() {
     }
 
     /**
@@ -71,8 +67,8 @@ public class SpringParameterProcessor extends AbstractParameterProcessor {
             Function<AnnotationInstance, Parameter> reader,
             List<AnnotationScannerExtension> extensions) {
 
-        SpringParameterProcessor processor = new SpringParameterProcessor(context, contextPath, reader, extensions);
-        return processor.process(resourceClass, resourceMethod);
+        return processReusable(SpringParameterProcessor.class, SpringParameterProcessor::new, context, contextPath,
+                reader, extensions, resourceClass, resourceMethod);
     }
 
     @Override
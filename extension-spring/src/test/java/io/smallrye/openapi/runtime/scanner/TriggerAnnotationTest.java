@@ -0,0 +1,94 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * The Spring scanner only runs when {@code @RestController} is present in the index.
+ */
+class TriggerAnnotationTest extends IndexScannerTestBase {
+
+    private static final String SKIPPING = "Skipping Spring scanner";
+    private static final String SCANNING = "Scanning deployment for Spring Annotations";
+
+    @RegisterExtension
+    LogCapture logs = new LogCapture(ScannerLogging.class.getPackage().getName());
+
+    @Controller
+    @RequestMapping("/plain")
+    static class PlainController {
+        @GetMapping
+        public String get() {
+            return null;
+        }
+    }
+
+    @RestController
+    @RequestMapping("/direct")
+    static class DirectController {
+        @GetMapping
+        public String get() {
+            return null;
+        }
+    }
+
+    @Target(ElementType.TYPE)
+    @Retention(RetentionPolicy.RUNTIME)
+    @RestController
+    @interface ApiController {
+    }
+
+    @ApiController
+    @RequestMapping("/meta")
+    static class MetaAnnotatedController {
+        @GetMapping
+        public String get() {
+            return null;
+        }
+    }
+
+    private boolean logged(String message) {
+        return logs.getAll().stream().anyMatch(r -> r.getMessage().contains(message));
+    }
+
+    @Test
+    void testScannerSkippedWithoutRestController() {
+        OpenAPI result = scan(PlainController.class);
+
+        logs.assertLogContaining(SKIPPING);
+        assertFalse(logged(SCANNING));
+        assertNull(result.getPaths());
+    }
+
+    @Test
+    void testScannerRunsWithRestController() {
+        OpenAPI result = scan(PlainController.class, DirectController.class);
+
+        logs.assertLogContaining(SCANNING);
+        assertFalse(logged(SKIPPING));
+        assertTrue(result.getPaths().hasPathItem("/direct"));
+    }
+
+    @Test
+    void testScannerRunsWithMetaAnnotatedController() {
+        // @RestController is found on the declaration of the indexed meta-annotation
+        scan(ApiController.class, MetaAnnotatedController.class);
+
+        logs.assertLogContaining(SCANNING);
+        assertFalse(logged(SKIPPING));
+    }
+}
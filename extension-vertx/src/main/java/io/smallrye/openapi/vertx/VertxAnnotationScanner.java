@@ -2,6 +2,7 @@ package io.smallrye.openapi.vertx;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
@@ -15,7 +16,6 @@ import org.eclipse.microprofile.openapi.models.PathItem;
 import org.eclipse.microprofile.openapi.models.parameters.Parameter;
 import org.eclipse.microprofile.openapi.models.parameters.RequestBody;
 import org.jboss.jandex.AnnotationInstance;
-import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
@@ -25,6 +25,7 @@ import org.jboss.jandex.Type;
 import io.smallrye.openapi.api.models.PathItemImpl;
 import io.smallrye.openapi.api.util.ListUtil;
 import io.smallrye.openapi.api.util.MergeUtil;
+import io.smallrye.openapi.runtime.events.OpenApiResourceScanEvent;
 import io.smallrye.openapi.runtime.io.media.ContentIO;
 import io.smallrye.openapi.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.openapi.runtime.scanner.ResourceParameters;
@@ -86,6 +87,11 @@ public class VertxAnnotationScanner extends AbstractAnnotationScanner {
         return VertxConstants.INTERNAL_PARAMETERS.contains(parameterType.name());
     }
 
+    @Override
+    public Collection<DotName> getTriggerAnnotations() {
+        return Collections.singletonList(VertxConstants.ROUTE);
+    }
+
     @Override
     public OpenAPI scan(final AnnotationScannerContext context, OpenAPI openApi) {
         this.context = context;
@@ -113,17 +119,7 @@ public class VertxAnnotationScanner extends AbstractAnnotationScanner {
      */
     private void processRoutes(OpenAPI openApi) {
         // Get all Vert.x routes and convert them to OpenAPI models (and merge them into a single one)
-        Collection<AnnotationInstance> routeAnnotations = context.getIndex()
-                .getAnnotations(VertxConstants.ROUTE);
-        Set<ClassInfo> applications = new LinkedHashSet<>();
-        for (AnnotationInstance annotationInstance : routeAnnotations) {
-            if (annotationInstance.target().kind().equals(AnnotationTarget.Kind.METHOD)) {
-                ClassInfo classInfo = annotationInstance.target().asMethod().declaringClass();
-                applications.add(classInfo);
-            } else {
-                VertxLogging.log.ignoringAnnotation(VertxConstants.ROUTE.withoutPackagePrefix());
-            }
-        }
+        Set<ClassInfo> applications = new LinkedHashSet<>(context.getCandidateClasses(getTriggerAnnotations()));
 
         // this can be a useful extension point to set/override the application path
         processScannerExtensions(context, applications);
@@ -144,6 +140,8 @@ public class VertxAnnotationScanner extends AbstractAnnotationScanner {
     private OpenAPI processRouteClass(ClassInfo routeClass) {
 
         VertxLogging.log.processingRouteClass(routeClass.simpleName());
+        OpenApiResourceScanEvent event = new OpenApiResourceScanEvent();
+        event.begin();
 
         TypeResolver resolver = TypeResolver.forClass(context, routeClass, null);
         context.getResolverStack().push(resolver);
@@ -175,6 +173,7 @@ public class VertxAnnotationScanner extends AbstractAnnotationScanner {
 
         context.getResolverStack().pop();
 
+        event.complete(getName(), routeClass);
         return openApi;
     }
 
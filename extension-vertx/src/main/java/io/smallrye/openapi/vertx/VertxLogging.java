@@ -9,10 +9,6 @@ import org.jboss.logging.annotations.MessageLogger;
 interface VertxLogging {
     VertxLogging log = Logger.getMessageLogger(VertxLogging.class, VertxLogging.class.getPackage().getName());
 
-    @LogMessage(level = Logger.Level.WARN)
-    @Message(id = 14000, value = "Ignoring %s annotation that is not on a method")
-    void ignoringAnnotation(String className);
-
     @LogMessage(level = Logger.Level.DEBUG)
     @Message(id = 14001, value = "Processing class with Vert.x routes: %s")
     void processingRouteClass(String className);
@@ -43,11 +43,7 @@ public class VertxParameterProcessor extends AbstractParameterProcessor {
     static final Pattern TEMPLATE_PARAM_PATTERN = Pattern
             .compile(":[ \\t]*(\\w[\\w\\.-]*)[ \\t]*:[ \\t]*((?:[^{}]|\\{[^{}]+\\})+)"); //NOSONAR
 
-    private VertxParameterProcessor(AnnotationScannerContext scannerContext,
-            String contextPath,
-            Function<AnnotationInstance, Parameter> reader,
-            List<AnnotationScannerExtension> extensions) {
-        super(scannerContext, contextPath, reader, extensions);
+    private VertxParameterProcessor() {
     }
 
     /**
@@ -74,8 +70,8 @@ public class VertxParameterProcessor extends AbstractParameterProcessor {
             Function<AnnotationInstance, Parameter> reader,
             List<AnnotationScannerExtension> extensions) {
 
-        VertxParameterProcessor processor = new VertxParameterProcessor(context, contextPath, reader, extensions);
-        return processor.process(resourceClass, resourceMethod);
+        return processReusable(VertxParameterProcessor.class, VertxParameterProcessor::new, context, contextPath,
+                reader, extensions, resourceClass, resourceMethod);
     }
 
     @Override
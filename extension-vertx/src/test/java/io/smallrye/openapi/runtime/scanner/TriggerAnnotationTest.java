@@ -0,0 +1,63 @@
+package io.smallrye.openapi.runtime.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.microprofile.openapi.models.OpenAPI;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.vertx.web.Route;
+import io.quarkus.vertx.web.Route.HttpMethod;
+import io.quarkus.vertx.web.RouteBase;
+
+/**
+ * The Vert.x scanner only runs when {@code @Route} is present in the index.
+ */
+class TriggerAnnotationTest extends IndexScannerTestBase {
+
+    private static final String SKIPPING = "Skipping Vert.x scanner";
+    private static final String SCANNING = "Scanning deployment for Vert.x Annotations";
+
+    @RegisterExtension
+    LogCapture logs = new LogCapture(ScannerLogging.class.getPackage().getName());
+
+    @RouteBase(path = "base")
+    static class BaseOnly {
+        public String get() {
+            return null;
+        }
+    }
+
+    @RouteBase(path = "greeting")
+    static class Routes {
+        @Route(path = "/hello", methods = HttpMethod.GET)
+        public String hello() {
+            return null;
+        }
+    }
+
+    private boolean logged(String message) {
+        return logs.getAll().stream().anyMatch(r -> r.getMessage().contains(message));
+    }
+
+    @Test
+    void testScannerSkippedWithoutRoute() {
+        // @RouteBase alone declares no routes
+        OpenAPI result = scan(BaseOnly.class);
+
+        logs.assertLogContaining(SKIPPING);
+        assertFalse(logged(SCANNING));
+        assertNull(result.getPaths());
+    }
+
+    @Test
+    void testScannerRunsWithRoute() {
+        OpenAPI result = scan(BaseOnly.class, Routes.class);
+
+        logs.assertLogContaining(SCANNING);
+        assertFalse(logged(SKIPPING));
+        assertTrue(result.getPaths().hasPathItem("/greeting/hello"));
+    }
+}
@@ -0,0 +1,57 @@
+package io.smallrye.openapi.gradleplugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+import org.jboss.jandex.IndexView;
+
+/**
+ * Shared build service holding the Jandex indexes of dependency archives. All
+ * {@link SmallryeOpenApiTask}s of a build use the same instance, so an archive
+ * on the classpath of several projects is only indexed once.
+ *
+ * <p>
+ * Entries are keyed by the archive's path and only re-used while its size and
+ * modification time are unchanged.
+ */
+public abstract class GradleDependencyIndexCache implements BuildService<BuildServiceParameters.None> {
+
+    public static final String SERVICE_NAME = "smallryeOpenApiDependencyIndexCache";
+
+    @FunctionalInterface
+    interface Indexer {
+        IndexView index(File artifact) throws IOException;
+    }
+
+    private final Map<String, CachedIndex> indexes = new ConcurrentHashMap<>();
+
+    IndexView getIndex(File artifact, Indexer indexer) throws IOException {
+        String key = artifact.getAbsolutePath();
+        long length = artifact.length();
+        long lastModified = artifact.lastModified();
+        CachedIndex cached = indexes.get(key);
+
+        if (cached == null || cached.length != length || cached.lastModified != lastModified) {
+            cached = new CachedIndex(length, lastModified, indexer.index(artifact));
+            indexes.put(key, cached);
+        }
+
+        return cached.index;
+    }
+
+    private static final class CachedIndex {
+        final long length;
+        final long lastModified;
+        final IndexView index;
+
+        CachedIndex(long length, long lastModified, IndexView index) {
+            this.length = length;
+            this.lastModified = lastModified;
+            this.index = index;
+        }
+    }
+}
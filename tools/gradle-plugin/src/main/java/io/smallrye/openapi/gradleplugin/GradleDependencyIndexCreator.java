@@ -27,9 +27,11 @@ import org.jboss.jandex.Result;
 public class GradleDependencyIndexCreator {
 
     private final Logger logger;
+    private final GradleDependencyIndexCache indexCache;
 
-    public GradleDependencyIndexCreator(Logger logger) {
+    public GradleDependencyIndexCreator(Logger logger, GradleDependencyIndexCache indexCache) {
         this.logger = logger;
+        this.indexCache = indexCache;
     }
 
     IndexView createIndex(Set<File> dependencies, FileCollection classesDirs)
@@ -65,7 +67,14 @@ public class GradleDependencyIndexCreator {
         return CompositeIndex.create(indexes);
     }
 
-    private Index index(File artifact) throws IOException {
+    private IndexView index(File artifact) throws IOException {
+        if (indexCache != null) {
+            return indexCache.getIndex(artifact, GradleDependencyIndexCreator::indexJar);
+        }
+        return indexJar(artifact);
+    }
+
+    private static Index indexJar(File artifact) throws IOException {
         Result result = JarIndexer.createJarIndex(artifact, new Indexer(), false,
                 false, false);
         return result.getIndex();
@@ -8,7 +8,7 @@ import org.gradle.api.file.ConfigurableFileCollection;
 import org.gradle.api.file.FileCollection;
 import org.gradle.api.internal.jvm.ClassDirectoryBinaryNamingScheme;
 import org.gradle.api.plugins.JavaPluginExtension;
-import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.provider.Provider;
 import org.gradle.api.tasks.SourceSet;
 import org.gradle.api.tasks.TaskProvider;
 import org.gradle.jvm.tasks.Jar;
@@ -54,6 +54,11 @@ public class SmallryeOpenApiPlugin implements Plugin<Project> {
                 .fileCollection();
         resourcesSrcDirs.from(sourceSet.getResources().getSrcDirs());
 
+        Provider<GradleDependencyIndexCache> indexCache = project.getGradle()
+                .getSharedServices()
+                .registerIfAbsent(GradleDependencyIndexCache.SERVICE_NAME, GradleDependencyIndexCache.class, spec -> {
+                });
+
         TaskProvider<SmallryeOpenApiTask> task = project.getTasks()
                 .register(
                         genTaskName,
@@ -67,10 +72,8 @@ public class SmallryeOpenApiPlugin implements Plugin<Project> {
                     t.setGroup("build");
                     t.setDescription("Smallrye OpenAPI generator");
                     t.dependsOn(sourceSet.getCompileJavaTaskName());
-                    t.getInputs().files(sourceSet.getAllSource().getSourceDirectories());
-                    t.getInputs().files(sourceSet.getOutput().getDirs()).withPathSensitivity(
-                            PathSensitivity.RELATIVE);
-                    t.getInputs().files(classpath).withPathSensitivity(PathSensitivity.RELATIVE);
+                    t.getIndexCache().set(indexCache);
+                    t.usesService(indexCache);
                 });
 
         project.getTasks().named(sourceSet.getJarTaskName(), Jar.class)
@@ -31,8 +31,12 @@ import org.gradle.api.provider.ListProperty;
 import org.gradle.api.provider.MapProperty;
 import org.gradle.api.provider.Property;
 import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.Classpath;
+import org.gradle.api.tasks.IgnoreEmptyDirectories;
 import org.gradle.api.tasks.Input;
 import org.gradle.api.tasks.InputFile;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
 import org.gradle.api.tasks.Optional;
 import org.gradle.api.tasks.OutputDirectory;
 import org.gradle.api.tasks.PathSensitive;
@@ -64,6 +68,8 @@ public class SmallryeOpenApiTask extends DefaultTask implements SmallryeOpenApiP
 
     private final Configs properties;
 
+    private final Property<GradleDependencyIndexCache> indexCache;
+
     enum OutputFileFilter {
         ALL,
         YAML,
@@ -87,6 +93,7 @@ public class SmallryeOpenApiTask extends DefaultTask implements SmallryeOpenApiP
                 .convention(layout.getBuildDirectory().dir("generated/openapi"));
 
         properties = new Configs(objects, ext);
+        indexCache = objects.property(GradleDependencyIndexCache.class);
     }
 
     @TaskAction
@@ -98,8 +105,8 @@ public class SmallryeOpenApiTask extends DefaultTask implements SmallryeOpenApiP
                     ? Collections.emptySet()
                     : classpath.getFiles();
 
-            IndexView index = new GradleDependencyIndexCreator(getLogger()).createIndex(dependencies,
-                    classesDirs);
+            IndexView index = new GradleDependencyIndexCreator(getLogger(), indexCache.getOrNull())
+                    .createIndex(dependencies, classesDirs);
             SmallRyeOpenAPI openAPI = generateOpenAPI(index, resourcesSrcDirs);
             write(openAPI);
         } catch (Exception ex) {
@@ -224,6 +231,43 @@ public class SmallryeOpenApiTask extends DefaultTask implements SmallryeOpenApiP
                 StandardOpenOption.TRUNCATE_EXISTING);
     }
 
+    /**
+     * Dependencies of the scanned classes. Besides being indexed for annotations, these are on the
+     * class path used to load model readers and filters, so runtime classpath normalization is
+     * used rather than ABI-only compile classpath normalization, which would ignore the private
+     * members the scanner reads.
+     */
+    @Classpath
+    public FileCollection getClasspath() {
+        return classpath;
+    }
+
+    /**
+     * Class directories of the scanned source set.
+     */
+    @Classpath
+    public FileCollection getClassesDirs() {
+        return classesDirs;
+    }
+
+    /**
+     * Resource directories searched for static OpenAPI files.
+     */
+    @InputFiles
+    @PathSensitive(PathSensitivity.RELATIVE)
+    @IgnoreEmptyDirectories
+    public FileCollection getResourcesSrcDirs() {
+        return resourcesSrcDirs;
+    }
+
+    /**
+     * Build service caching the indexes of dependency archives across the tasks of a build.
+     */
+    @Internal
+    public Property<GradleDependencyIndexCache> getIndexCache() {
+        return indexCache;
+    }
+
     /**
      * Directory where to output the schemas. If no path is specified, the schema will be printed to
      * the log.
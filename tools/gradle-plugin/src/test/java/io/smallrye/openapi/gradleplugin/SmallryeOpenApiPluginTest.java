@@ -19,7 +19,9 @@ import org.gradle.api.Project;
 import org.gradle.api.Task;
 import org.gradle.api.provider.Provider;
 import org.gradle.testfixtures.ProjectBuilder;
+import org.gradle.testkit.runner.BuildResult;
 import org.gradle.testkit.runner.GradleRunner;
+import org.gradle.testkit.runner.TaskOutcome;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -153,6 +155,14 @@ class SmallryeOpenApiPluginTest {
         smokeProject(buildDir, false, SmallryeOpenApiPlugin.TASK_NAME, "JSON");
     }
 
+    @Test
+    void simpleProjectUpToDate(@TempDir Path buildDir) throws Exception {
+        smokeProject(buildDir, false, SmallryeOpenApiPlugin.TASK_NAME);
+
+        BuildResult result = runGradleTask(buildDir, SmallryeOpenApiPlugin.TASK_NAME, false);
+        assertThat(result.task(":" + SmallryeOpenApiPlugin.TASK_NAME).getOutcome()).isEqualTo(TaskOutcome.UP_TO_DATE);
+    }
+
     @Test
     void quarkusProjectGenApiOnly(@TempDir Path buildDir) throws Exception {
         // Quarkus Gradle project, just call the generateOpenApiSpec task
@@ -318,7 +328,7 @@ class SmallryeOpenApiPluginTest {
         }
     }
 
-    private static void runGradleTask(Path buildDir, String taskName, boolean withQuarkus) {
+    private static BuildResult runGradleTask(Path buildDir, String taskName, boolean withQuarkus) {
         List<String> args = new ArrayList<>();
         if (!withQuarkus) {
             // The Quarkus plugin **might** be ready for Gradle configuration cache starting with
@@ -332,7 +342,7 @@ class SmallryeOpenApiPluginTest {
                 "--stacktrace",
                 taskName));
 
-        GradleRunner.create()
+        return GradleRunner.create()
                 .withPluginClasspath()
                 .withProjectDir(buildDir.toFile())
                 .withArguments(args)
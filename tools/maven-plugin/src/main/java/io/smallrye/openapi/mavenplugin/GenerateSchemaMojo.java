@@ -10,21 +10,26 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.charset.Charset;
 import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Stream;
 
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
@@ -46,6 +51,9 @@ import io.smallrye.openapi.api.SmallRyeOpenAPI;
 @Mojo(name = "generate-schema", defaultPhase = LifecyclePhase.PROCESS_CLASSES, requiresDependencyCollection = ResolutionScope.COMPILE_PLUS_RUNTIME, requiresDependencyResolution = ResolutionScope.COMPILE_PLUS_RUNTIME, threadSafe = true)
 public class GenerateSchemaMojo extends AbstractMojo {
 
+    private static final String OPENAPI_PROPERTY_PREFIX = "mp.openapi.";
+    private static final String OPENAPI_ENV_PREFIX = "MP_OPENAPI_";
+
     /**
      * Directory where to output the schemas.
      * If no path is specified, the schema will be printed to the log.
@@ -81,6 +89,16 @@ public class GenerateSchemaMojo extends AbstractMojo {
     @Parameter(defaultValue = "false", property = "skip")
     private boolean skip;
 
+    /**
+     * Skip generation when the module's classes and resources, its dependencies, the
+     * plugin configuration (including the contents of {@code configProperties}) and the
+     * {@code mp.openapi.*} properties set in system properties or environment variables
+     * are unchanged since the schema files were last written. A fingerprint of these inputs
+     * is kept in the project's build directory.
+     */
+    @Parameter(defaultValue = "true", property = "skipUnchanged")
+    private boolean skipUnchanged;
+
     /**
      * Disable scanning the project's dependencies for OpenAPI model classes too
      */
@@ -265,20 +283,48 @@ public class GenerateSchemaMojo extends AbstractMojo {
     @Component
     private MavenDependencyIndexCreator mavenDependencyIndexCreator;
 
+    @Component
+    private MavenInputFingerprintCreator mavenInputFingerprintCreator;
+
     @Component
     MavenProjectHelper mavenProjectHelper;
 
     @Parameter(defaultValue = "${project}", required = true, readonly = true)
     private MavenProject mavenProject;
 
+    @Parameter(defaultValue = "${mojoExecution}", required = true, readonly = true)
+    private MojoExecution mojoExecution;
+
     @Override
     public void execute() throws MojoExecutionException {
         if (!skip) {
             try {
+                Path fingerprintFile = null;
+                String fingerprint = null;
+
+                Config config = createConfig();
+
+                if (skipUnchanged && outputDirectory != null) {
+                    fingerprintFile = getFingerprintFile();
+                    fingerprint = mavenInputFingerprintCreator.createFingerprint(mavenProject,
+                            getFingerprintParameters(config));
+
+                    if (isUpToDate(fingerprintFile, fingerprint)) {
+                        getLog().info("Schema files in " + outputDirectory.getAbsolutePath() + " are up to date");
+                        attachExisting();
+                        return;
+                    }
+                }
+
                 IndexView index = mavenDependencyIndexCreator.createIndex(mavenProject, scanDependenciesDisable,
                         includeDependenciesScopes, includeDependenciesTypes);
-                SmallRyeOpenAPI openAPI = generateOpenAPI(index);
+                SmallRyeOpenAPI openAPI = generateOpenAPI(config, index);
                 write(openAPI);
+
+                if (fingerprintFile != null) {
+                    Files.createDirectories(fingerprintFile.getParent());
+                    Files.write(fingerprintFile, fingerprint.getBytes(StandardCharsets.UTF_8));
+                }
             } catch (Exception ex) {
                 getLog().error(ex);
                 // allow failOnError = false ?
@@ -287,16 +333,89 @@ public class GenerateSchemaMojo extends AbstractMojo {
         }
     }
 
-    private SmallRyeOpenAPI generateOpenAPI(IndexView index) throws IOException, DependencyResolutionRequiredException {
+    private Path getFingerprintFile() {
+        return Paths.get(mavenProject.getBuild().getDirectory(), "smallrye-open-api",
+                mojoExecution.getExecutionId() + ".fingerprint");
+    }
+
+    private Map<String, Object> getFingerprintParameters(Config config) throws IOException {
+        Map<String, Object> parameters = new HashMap<>(getProperties());
+
+        // Properties resolved from the default sources (system properties, environment variables, ...)
+        for (String name : config.getPropertyNames()) {
+            if (isOpenApiProperty(name)) {
+                parameters.put("config." + name, config.getOptionalValue(name, String.class).orElse(null));
+            }
+        }
+
+        parameters.put("plugin.version", mojoExecution.getMojoDescriptor().getPluginDescriptor().getVersion());
+        parameters.put("plugin.outputDirectory", outputDirectory.getAbsolutePath());
+        parameters.put("plugin.schemaFilename", schemaFilename);
+        parameters.put("plugin.outputFileTypeFilter", outputFileTypeFilter);
+        parameters.put("plugin.encoding", encoding);
+        parameters.put("plugin.includeDependenciesScopes", includeDependenciesScopes);
+        parameters.put("plugin.includeDependenciesTypes", includeDependenciesTypes);
+        parameters.put("plugin.scanners", scanners);
+        parameters.put("plugin.systemPropertyVariables",
+                systemPropertyVariables != null ? new TreeMap<>(systemPropertyVariables) : null);
+        return parameters;
+    }
+
+    private static boolean isOpenApiProperty(String name) {
+        return name.startsWith(OPENAPI_PROPERTY_PREFIX)
+                || name.toUpperCase(Locale.ROOT).replaceAll("[^A-Z0-9]", "_").startsWith(OPENAPI_ENV_PREFIX);
+    }
+
+    private boolean isUpToDate(Path fingerprintFile, String fingerprint) throws IOException {
+        if (!Files.isRegularFile(fingerprintFile)) {
+            return false;
+        }
+
+        String previous = new String(Files.readAllBytes(fingerprintFile), StandardCharsets.UTF_8);
+
+        return fingerprint.equals(previous)
+                && getOutputTypes().stream().map(this::getOutputFile).allMatch(Files::isRegularFile);
+    }
+
+    private void attachExisting() {
+        if (attachArtifacts) {
+            for (String type : getOutputTypes()) {
+                mavenProjectHelper.attachArtifact(mavenProject, type, schemaFilename, getOutputFile(type).toFile());
+            }
+        }
+    }
+
+    private List<String> getOutputTypes() {
+        OutputFileFilter fileFilter = OutputFileFilter.valueOf(this.outputFileTypeFilter);
+        List<String> types = new ArrayList<>(2);
+
+        if (Stream.of(OutputFileFilter.ALL, OutputFileFilter.YAML).anyMatch(fileFilter::equals)) {
+            types.add("yaml");
+        }
+
+        if (Stream.of(OutputFileFilter.ALL, OutputFileFilter.JSON).anyMatch(fileFilter::equals)) {
+            types.add("json");
+        }
+
+        return types;
+    }
+
+    private Path getOutputFile(String type) {
+        return Paths.get(outputDirectory.toPath().toString(), schemaFilename + "." + type);
+    }
+
+    private Config createConfig() throws IOException {
         if (systemPropertyVariables != null) {
             systemPropertyVariables.forEach(System::setProperty);
         }
 
-        Config config = new SmallRyeConfigBuilder()
+        return new SmallRyeConfigBuilder()
                 .addDefaultSources()
                 .withSources(new PropertiesConfigSource(getProperties(), "maven-plugin", ConfigSource.DEFAULT_ORDINAL))
                 .build();
+    }
 
+    private SmallRyeOpenAPI generateOpenAPI(Config config, IndexView index) throws DependencyResolutionRequiredException {
         return SmallRyeOpenAPI.builder()
                 .withConfig(config)
                 .withApplicationClassLoader(getClassLoader())
@@ -416,15 +535,14 @@ public class GenerateSchemaMojo extends AbstractMojo {
                 }
 
                 Charset charset = getCharset(encoding);
+                List<String> types = getOutputTypes();
 
-                if (Stream.of(OutputFileFilter.ALL, OutputFileFilter.YAML)
-                        .anyMatch(f -> f.equals(OutputFileFilter.valueOf(this.outputFileTypeFilter)))) {
-                    writeFile(directory, "yaml", yaml.getBytes(charset));
+                if (types.contains("yaml")) {
+                    writeFile("yaml", yaml.getBytes(charset));
                 }
 
-                if (Stream.of(OutputFileFilter.ALL, OutputFileFilter.JSON)
-                        .anyMatch(f -> f.equals(OutputFileFilter.valueOf(this.outputFileTypeFilter)))) {
-                    writeFile(directory, "json", json.getBytes(charset));
+                if (types.contains("json")) {
+                    writeFile("json", json.getBytes(charset));
                 }
 
                 getLog().info("Wrote the schema files to " + outputDirectory.getAbsolutePath());
@@ -452,8 +570,8 @@ public class GenerateSchemaMojo extends AbstractMojo {
         return charset;
     }
 
-    private void writeFile(Path directory, String type, byte[] contents) throws IOException {
-        Path file = Paths.get(directory.toString(), schemaFilename + "." + type);
+    private void writeFile(String type, byte[] contents) throws IOException {
+        Path file = getOutputFile(type);
         if (!Files.exists(file)) {
             Files.createFile(file);
         }
@@ -0,0 +1,166 @@
+package io.smallrye.openapi.mavenplugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.component.annotations.Component;
+import org.codehaus.plexus.component.annotations.Requirement;
+import org.codehaus.plexus.logging.Logger;
+
+/**
+ * Computes a fingerprint of everything that influences the generated schema: the
+ * module's build output, the resolved dependencies and the plugin configuration.
+ * Two executions with the same fingerprint produce the same schema documents.
+ */
+@Component(role = MavenInputFingerprintCreator.class, instantiationStrategy = "singleton")
+public class MavenInputFingerprintCreator {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    /**
+     * Checksums of dependency archives, shared by all modules of the reactor. Entries
+     * are only re-used while the file's size and modification time are unchanged.
+     */
+    private final Map<String, ArchiveChecksum> archiveChecksums = new ConcurrentHashMap<>();
+
+    @Requirement
+    private Logger logger;
+
+    public String createFingerprint(MavenProject mavenProject, Map<String, ?> parameters) throws IOException {
+        MessageDigest digest = newDigest();
+
+        new TreeMap<>(parameters).forEach((key, value) -> update(digest, key + '=' + value));
+
+        String buildOutput = mavenProject.getBuild().getOutputDirectory();
+
+        if (buildOutput != null) {
+            update(digest, "output");
+            updateDirectory(digest, new File(buildOutput).toPath());
+        }
+
+        List<Artifact> artifacts = mavenProject.getArtifacts()
+                .stream()
+                .sorted(Comparator.comparing(Artifact::getId))
+                .collect(Collectors.toList());
+
+        for (Artifact artifact : artifacts) {
+            update(digest, artifact.getId() + ':' + artifact.getScope());
+            File file = artifact.getFile();
+
+            if (file == null) {
+                continue;
+            }
+
+            if (file.isDirectory()) {
+                // Reactor module outputs change between builds, never cache them
+                updateDirectory(digest, file.toPath());
+            } else if (file.isFile()) {
+                update(digest, archiveChecksum(file));
+            }
+        }
+
+        String fingerprint = toHex(digest.digest());
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Schema input fingerprint: " + fingerprint);
+        }
+
+        return fingerprint;
+    }
+
+    private String archiveChecksum(File file) throws IOException {
+        long length = file.length();
+        long lastModified = file.lastModified();
+        ArchiveChecksum cached = archiveChecksums.get(file.getAbsolutePath());
+
+        if (cached != null && cached.length == length && cached.lastModified == lastModified) {
+            return cached.checksum;
+        }
+
+        MessageDigest digest = newDigest();
+        updateFile(digest, file.toPath());
+        String checksum = toHex(digest.digest());
+        archiveChecksums.put(file.getAbsolutePath(), new ArchiveChecksum(length, lastModified, checksum));
+
+        return checksum;
+    }
+
+    private static void updateDirectory(MessageDigest digest, Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        List<Path> files;
+
+        try (Stream<Path> stream = Files.walk(directory)) {
+            files = stream.filter(Files::isRegularFile)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        for (Path file : files) {
+            update(digest, directory.relativize(file).toString().replace(File.separatorChar, '/'));
+            updateFile(digest, file);
+        }
+    }
+
+    private static void updateFile(MessageDigest digest, Path file) throws IOException {
+        byte[] buffer = new byte[8192];
+
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            while (in.read(buffer) != -1) {
+                // The digest is updated as the stream is read
+            }
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " message digest not available", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder result = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            result.append(Character.forDigit((b >> 4) & 0xF, 16));
+            result.append(Character.forDigit(b & 0xF, 16));
+        }
+        return result.toString();
+    }
+
+    private static final class ArchiveChecksum {
+        final long length;
+        final long lastModified;
+        final String checksum;
+
+        ArchiveChecksum(long length, long lastModified, String checksum) {
+            this.length = length;
+            this.lastModified = lastModified;
+            this.checksum = checksum;
+        }
+    }
+}
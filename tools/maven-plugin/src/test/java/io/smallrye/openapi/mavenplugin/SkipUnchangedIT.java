@@ -0,0 +1,69 @@
+package io.smallrye.openapi.mavenplugin;
+
+import static com.soebes.itf.extension.assertj.MavenITAssertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import com.soebes.itf.jupiter.extension.MavenGoal;
+import com.soebes.itf.jupiter.extension.MavenJupiterExtension;
+import com.soebes.itf.jupiter.extension.MavenTest;
+import com.soebes.itf.jupiter.maven.MavenExecutionResult;
+
+/**
+ * Each test runs the plugin several times in a single build. All command line
+ * executions share the same execution id, and therefore the same fingerprint.
+ */
+@MavenJupiterExtension
+public class SkipUnchangedIT extends SchemaTestBase {
+
+    private static final String GENERATE_SCHEMA = "${project.groupId}:${project.artifactId}:${project.version}:generate-schema";
+    private static final String WROTE = "Wrote the schema files to ";
+    private static final String UP_TO_DATE = " are up to date";
+
+    @MavenTest
+    @MavenGoal("compile")
+    @MavenGoal(GENERATE_SCHEMA)
+    @MavenGoal(GENERATE_SCHEMA)
+    void unchanged_skipped(MavenExecutionResult result) throws IOException {
+        assertThat(result).isSuccessful().out().info()
+                .filteredOn(line -> line.contains(WROTE)).hasSize(1);
+        assertThat(result).isSuccessful().out().info()
+                .filteredOn(line -> line.contains(UP_TO_DATE)).hasSize(1);
+
+        testSchema(result, schema -> assertTrue(schema.getPaths().hasPathItem("/hello")));
+    }
+
+    @MavenTest
+    @MavenGoal(GENERATE_SCHEMA)
+    @MavenGoal(GENERATE_SCHEMA)
+    @MavenGoal("compile")
+    @MavenGoal(GENERATE_SCHEMA)
+    void class_changed(MavenExecutionResult result) throws IOException {
+        // Generated before and after the classes are compiled, skipped in between
+        assertThat(result).isSuccessful().out().info()
+                .filteredOn(line -> line.contains(WROTE)).hasSize(2);
+        assertThat(result).isSuccessful().out().info()
+                .filteredOn(line -> line.contains(UP_TO_DATE)).hasSize(1);
+
+        testSchema(result, schema -> assertTrue(schema.getPaths().hasPathItem("/hello")));
+    }
+
+    @MavenTest
+    @MavenGoal("compile")
+    @MavenGoal(GENERATE_SCHEMA)
+    @MavenGoal(GENERATE_SCHEMA)
+    @MavenGoal(GENERATE_SCHEMA + "@set-title")
+    @MavenGoal(GENERATE_SCHEMA)
+    void system_property_changed(MavenExecutionResult result) throws IOException {
+        // The set-title execution sets mp.openapi.extensions.smallrye.info.title as a system property,
+        // the last execution is not skipped although neither the classes nor its configuration changed
+        assertThat(result).isSuccessful().out().info()
+                .filteredOn(line -> line.contains(WROTE)).hasSize(3);
+        assertThat(result).isSuccessful().out().info()
+                .filteredOn(line -> line.contains(UP_TO_DATE)).hasSize(1);
+
+        testSchema(result, schema -> assertEquals("Changed title", schema.getInfo().getTitle()));
+    }
+}
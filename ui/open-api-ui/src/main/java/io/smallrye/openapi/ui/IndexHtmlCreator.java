@@ -1,6 +1,7 @@
 package io.smallrye.openapi.ui;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -8,10 +9,13 @@ import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Creates an index html based on some options
@@ -33,6 +37,24 @@ public class IndexHtmlCreator {
 
     public static byte[] createIndexHtml(Map<String, String> urls, String urlsPrimaryName, Map<Option, String> options)
             throws IOException {
+        return render(urls, urlsPrimaryName, options).html.clone();
+    }
+
+    /**
+     * Creates the index html as {@link #createIndexHtml(Map, String, Map)} does, compressed
+     * with gzip. The compressed form is computed once per distinct set of options.
+     */
+    public static byte[] createIndexHtmlGzip(Map<String, String> urls, String urlsPrimaryName, Map<Option, String> options)
+            throws IOException {
+        return render(urls, urlsPrimaryName, options).gzip().clone();
+    }
+
+    public static byte[] createIndexHtmlGzip(Map<Option, String> options) throws IOException {
+        return createIndexHtmlGzip(null, null, options);
+    }
+
+    private static RenderedHtml render(Map<String, String> urls, String urlsPrimaryName, Map<Option, String> options)
+            throws IOException {
         // First add the default that is not overridden
         options = populateDefaults(options);
         // Next sort out the url/urls
@@ -42,85 +64,166 @@ public class IndexHtmlCreator {
         // Add Preauth section
         addPreauthorizeSection(options);
 
+        // The urls and sections have been folded into the options, they fully determine the result
+        Map<Option, String> key = new EnumMap<>(Option.class);
+        key.putAll(options);
+
+        synchronized (RENDERED) {
+            RenderedHtml rendered = RENDERED.get(key);
+            if (rendered != null) {
+                return rendered;
+            }
+        }
+
+        StringBuilder result = new StringBuilder(8192);
+
+        for (List<Segment> line : template()) {
+            render(line, options, result);
+        }
+
+        RenderedHtml rendered = new RenderedHtml(result.toString().getBytes(StandardCharsets.UTF_8));
+
+        synchronized (RENDERED) {
+            RENDERED.put(key, rendered);
+        }
+
+        return rendered;
+    }
+
+    private static void render(List<Segment> line, Map<Option, String> options, StringBuilder result) {
+        int start = result.length();
+
+        for (Segment segment : line) {
+            if (segment.variable == null) {
+                result.append(segment.literal);
+            } else if (options.containsKey(segment.variable)) {
+                String replacement = replacement(segment.variable, options.get(segment.variable));
+                if (replacement == null) {
+                    // You want to remove this line
+                    result.setLength(start);
+                    return;
+                }
+                result.append(replacement);
+            } else {
+                // Not set, leave the variable as-is
+                result.append(segment.literal);
+            }
+        }
+
+        result.append('\n');
+    }
+
+    private static String replacement(Option variableOption, String replacement) {
+        if (replacement == null) {
+            // Special case for oauth2RedirectUrl
+            if (!variableOption.equals(Option.oauth2RedirectUrl)) {
+                return null;
+            }
+            // Use a harmless default value for oauth2RedirectUrl.
+            replacement = "-";
+        }
+        // Some properties can be boolean or String, if String we need to add '
+        replacement = replacement.trim();
+        if (BOOLEAN_OR_STRING_KEYS.contains(variableOption)) {
+            if (!replacement.equals("true") && !replacement.equals("false")) {
+                replacement = "'" + replacement + "'";
+            }
+        }
+        // Some properties can be boolean or Object, if not, we treat it as String and add '
+        if (BOOLEAN_OR_OBJECT_KEYS.contains(variableOption)) {
+            if (!replacement.equals("true") && !replacement.equals("false") &&
+                    !(replacement.startsWith("{") && replacement.endsWith("}"))) {
+                replacement = "'" + replacement + "'";
+            }
+        }
+        // Some properties can be a String or a function, if String we need to add '
+        replacement = replacement.trim();
+        if (STRING_OR_FUNCTION_KEYS.contains(variableOption)) {
+            if (!replacement.startsWith("function")) {
+                replacement = "'" + replacement + "'";
+            }
+        }
+        // Some properties are string arrays, and we need to add the ' per element
+        if (STRING_ARRAY_KEYS.contains(variableOption)) {
+            List<String> newArray = new ArrayList<>();
+            String[] parts = replacement.replace("[", "").replace("]", "").split(",");
+            for (String part : parts) {
+                newArray.add("'" + part.trim() + "'");
+            }
+            replacement = Arrays.toString(newArray.toArray(new String[] {}));
+        }
+        return replacement;
+    }
+
+    private static List<List<Segment>> template() throws IOException {
+        List<List<Segment>> template = compiledTemplate;
+
+        if (template == null) {
+            synchronized (IndexHtmlCreator.class) {
+                template = compiledTemplate;
+                if (template == null) {
+                    compiledTemplate = template = compileTemplate();
+                }
+            }
+        }
+
+        return template;
+    }
+
+    /**
+     * Read the template once, splitting each line into literal text and the option
+     * variables to substitute.
+     */
+    private static List<List<Segment>> compileTemplate() throws IOException {
+        List<List<Segment>> template = new ArrayList<>();
+
         try (InputStream input = IndexHtmlCreator.class.getClassLoader()
                 .getResourceAsStream("META-INF/resources/template/index.html");
                 InputStreamReader streamreader = new InputStreamReader(input, StandardCharsets.UTF_8);
-                BufferedReader reader = new BufferedReader(streamreader);
-                StringWriter writer = new StringWriter()) {
+                BufferedReader reader = new BufferedReader(streamreader)) {
 
             String str;
             while ((str = reader.readLine()) != null) {
-                str = replace(str, urls, urlsPrimaryName, options);
-                if (str != null) {
-                    writer.write(str + "\n");
-                }
+                template.add(compileLine(str));
             }
-            String result = writer.toString();
-            return result.getBytes(StandardCharsets.UTF_8);
         }
+
+        return template;
     }
 
-    private static String replace(String line, Map<String, String> urls, String urlsPrimaryName, Map<Option, String> options) {
-        if (line.contains(VAR_BEGIN)) {
-            Option variableOption = getVariable(line);
-            if (variableOption != null) {
-                if (options != null && options.containsKey(variableOption)) {
-                    String replacement = options.get(variableOption);
-                    if (replacement == null) {
-                        // Special case for oauth2RedirectUrl
-                        if (!variableOption.equals(Option.oauth2RedirectUrl)) {
-                            // You want to remove this line
-                            return null;
-                        }
-                        // Use a harmless default value for oauth2RedirectUrl.
-                        replacement = "-";
-                    }
-                    // Some properties can be boolean or String, if String we need to add '
-                    replacement = replacement.trim();
-                    if (BOOLEAN_OR_STRING_KEYS.contains(variableOption)) {
-                        if (!replacement.equals("true") && !replacement.equals("false")) {
-                            replacement = "'" + replacement + "'";
-                        }
-                    }
-                    // Some properties can be boolean or Object, if not, we treat it as String and add '
-                    if (BOOLEAN_OR_OBJECT_KEYS.contains(variableOption)) {
-                        if (!replacement.equals("true") && !replacement.equals("false") &&
-                                !(replacement.startsWith("{") && replacement.endsWith("}"))) {
-                            replacement = "'" + replacement + "'";
-                        }
-                    }
-                    // Some properties can be a String or a function, if String we need to add '
-                    replacement = replacement.trim();
-                    if (STRING_OR_FUNCTION_KEYS.contains(variableOption)) {
-                        if (!replacement.startsWith("function")) {
-                            replacement = "'" + replacement + "'";
-                        }
-                    }
-                    // Some properties are string arrays, and we need to add the ' per element
-                    if (STRING_ARRAY_KEYS.contains(variableOption)) {
-                        List<String> newArray = new ArrayList<>();
-                        String[] parts = replacement.replace("[", "").replace("]", "").split(",");
-                        for (String part : parts) {
-                            newArray.add("'" + part.trim() + "'");
-                        }
-                        replacement = Arrays.toString(newArray.toArray(new String[] {}));
-                    }
-
-                    line = line.replace(VAR_BEGIN + variableOption + VAR_END, replacement);
-                }
-                // Check if there is more varibles
-                return replace(line, urls, urlsPrimaryName, options);
+    private static List<Segment> compileLine(String line) {
+        List<Segment> segments = new ArrayList<>();
+        int position = 0;
+        int begin;
+
+        while ((begin = line.indexOf(VAR_BEGIN, position)) >= 0) {
+            int end = line.indexOf(VAR_END, begin);
+            Option variableOption = end < 0 ? null : getVariable(line.substring(begin + VAR_BEGIN.length(), end));
+
+            if (variableOption == null) {
+                // Quietly fall through (maybe you want the var there ?), the rest of the line is used as-is
+                break;
             }
+
+            if (begin > position) {
+                segments.add(new Segment(line.substring(position, begin), null));
+            }
+
+            segments.add(new Segment(line.substring(begin, end + VAR_END.length()), variableOption));
+            position = end + VAR_END.length();
+        }
+
+        if (position < line.length()) {
+            segments.add(new Segment(line.substring(position), null));
         }
-        return line;
+
+        return segments;
     }
 
-    private static Option getVariable(String line) {
+    private static Option getVariable(String name) {
         try {
-            String stringValue = line.substring(line.indexOf(VAR_BEGIN) + 2, line.indexOf(VAR_END));
-            return Option.valueOf(stringValue);
+            return Option.valueOf(name);
         } catch (IllegalArgumentException iae) {
-            // Quitly fall through (maybe you want the var there ?)
             return null;
         }
     }
@@ -284,6 +387,20 @@ public class IndexHtmlCreator {
     private static final String VAR_END = "}";
 
     private static final Map<Option, String> DEFAULT_OPTIONS = new HashMap<>();
+
+    // Rendered pages, keyed by the complete set of options used to render them
+    private static final int MAX_RENDERED = 16;
+    private static final Map<Map<Option, String>, RenderedHtml> RENDERED = new LinkedHashMap<Map<Option, String>, RenderedHtml>(
+            MAX_RENDERED, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Map<Option, String>, RenderedHtml> eldest) {
+            return size() > MAX_RENDERED;
+        }
+    };
+
+    private static volatile List<List<Segment>> compiledTemplate;
     private static final String DEFAULT_URLS_PRIMARY_NAME = "Default";
     private static final String URL_FORMAT = "url: '%s'";
     private static final String URLS_ENTRY_FORMAT = "{url: \"%s\", name: \"%s\"}";
@@ -348,4 +465,41 @@ public class IndexHtmlCreator {
 
     }
 
+    /**
+     * A piece of a template line, either literal text or a variable to be substituted.
+     * For variables, the literal holds the original <code>${name}</code> text.
+     */
+    private static final class Segment {
+        final String literal;
+        final Option variable;
+
+        Segment(String literal, Option variable) {
+            this.literal = literal;
+            this.variable = variable;
+        }
+    }
+
+    private static final class RenderedHtml {
+        final byte[] html;
+        private volatile byte[] gzip;
+
+        RenderedHtml(byte[] html) {
+            this.html = html;
+        }
+
+        byte[] gzip() throws IOException {
+            byte[] result = gzip;
+
+            if (result == null) {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream(html.length / 4);
+                try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+                    out.write(html);
+                }
+                gzip = result = buffer.toByteArray();
+            }
+
+            return result;
+        }
+    }
+
 }
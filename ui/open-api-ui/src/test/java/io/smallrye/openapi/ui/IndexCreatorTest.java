@@ -1,12 +1,16 @@
 package io.smallrye.openapi.ui;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -253,4 +257,21 @@ class IndexCreatorTest {
 
         assertTrue(s.contains("tryItOutEnabled: true,"));
     }
+
+    @Test
+    void testCreateGzip() throws IOException {
+        Map<Option, String> options = new HashMap<>();
+        options.put(Option.title, "Gzipped UI");
+
+        byte[] gzipped = IndexHtmlCreator.createIndexHtmlGzip(new HashMap<>(options));
+        assertNotNull(gzipped);
+
+        byte[] indexHtml;
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            indexHtml = in.readAllBytes();
+        }
+
+        assertArrayEquals(IndexHtmlCreator.createIndexHtml(new HashMap<>(options)), indexHtml);
+        assertTrue(new String(indexHtml).contains("<title>Gzipped UI</title>"));
+    }
 }